@@ -3,6 +3,7 @@ package com.hybridframework.base;
 import com.hybridframework.drivers.DriverManager;
 import com.hybridframework.utils.ConfigReader;
 import com.hybridframework.utils.ExtentReportManager;
+import com.hybridframework.utils.PhaseTimer;
 import com.hybridframework.utils.WebDriverUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -18,6 +19,7 @@ import java.util.List;
 /**
  * Base page class providing common page functionality
  */
+@SuppressWarnings("try")
 public class BasePage {
     
     protected static final Logger logger = LogManager.getLogger(BasePage.class);
@@ -28,9 +30,11 @@ public class BasePage {
      * Constructor to initialize page components
      */
     public BasePage() {
-        this.driver = DriverManager.getDriver();
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(ConfigReader.getExplicitWait()));
-        PageFactory.initElements(driver, this);
+        try (PhaseTimer.Scope ignored = PhaseTimer.enter(PhaseTimer.Phase.PAGE_OBJECT)) {
+            this.driver = DriverManager.getDriver();
+            this.wait = new WebDriverWait(driver, Duration.ofSeconds(ConfigReader.getExplicitWait()));
+            PageFactory.initElements(driver, this);
+        }
     }
     
     /**
@@ -40,7 +44,7 @@ public class BasePage {
     public String getPageTitle() {
         String title = WebDriverUtils.getPageTitle();
         logger.info("Page title: " + title);
-        ExtentReportManager.logInfo("Page title: " + title);
+        logAction("Page title: " + title);
         return title;
     }
     
@@ -51,7 +55,7 @@ public class BasePage {
     public String getCurrentUrl() {
         String url = WebDriverUtils.getCurrentUrl();
         logger.info("Current URL: " + url);
-        ExtentReportManager.logInfo("Current URL: " + url);
+        logAction("Current URL: " + url);
         return url;
     }
     
@@ -61,7 +65,7 @@ public class BasePage {
      */
     protected void clickElement(By locator) {
         WebDriverUtils.clickElement(locator);
-        ExtentReportManager.logInfo("Clicked element: " + locator);
+        logAction("Clicked element: " + locator);
     }
     
     /**
@@ -70,7 +74,7 @@ public class BasePage {
      */
     protected void clickElementUsingJS(By locator) {
         WebDriverUtils.clickElementUsingJS(locator);
-        ExtentReportManager.logInfo("Clicked element using JavaScript: " + locator);
+        logAction("Clicked element using JavaScript: " + locator);
     }
     
     /**
@@ -80,7 +84,7 @@ public class BasePage {
      */
     protected void sendKeys(By locator, String text) {
         WebDriverUtils.sendKeys(locator, text);
-        ExtentReportManager.logInfo("Entered text: " + text + " in element: " + locator);
+        logAction("Entered text: " + text + " in element: " + locator);
     }
     
     /**
@@ -90,7 +94,7 @@ public class BasePage {
      */
     protected String getText(By locator) {
         String text = WebDriverUtils.getText(locator);
-        ExtentReportManager.logInfo("Retrieved text: " + text + " from element: " + locator);
+        logAction("Retrieved text: " + text + " from element: " + locator);
         return text;
     }
     
@@ -102,7 +106,7 @@ public class BasePage {
      */
     protected String getAttribute(By locator, String attributeName) {
         String attributeValue = WebDriverUtils.getAttribute(locator, attributeName);
-        ExtentReportManager.logInfo("Retrieved attribute: " + attributeName + " = " + attributeValue + " from element: " + locator);
+        logAction("Retrieved attribute: " + attributeName + " = " + attributeValue + " from element: " + locator);
         return attributeValue;
     }
     
@@ -113,7 +117,7 @@ public class BasePage {
      */
     protected boolean isElementDisplayed(By locator) {
         boolean isDisplayed = WebDriverUtils.isElementDisplayed(locator);
-        ExtentReportManager.logInfo("Element displayed: " + isDisplayed + " for element: " + locator);
+        logAction("Element displayed: " + isDisplayed + " for element: " + locator);
         return isDisplayed;
     }
     
@@ -124,7 +128,7 @@ public class BasePage {
      */
     protected boolean isElementEnabled(By locator) {
         boolean isEnabled = WebDriverUtils.isElementEnabled(locator);
-        ExtentReportManager.logInfo("Element enabled: " + isEnabled + " for element: " + locator);
+        logAction("Element enabled: " + isEnabled + " for element: " + locator);
         return isEnabled;
     }
     
@@ -135,7 +139,7 @@ public class BasePage {
      */
     protected boolean isElementSelected(By locator) {
         boolean isSelected = WebDriverUtils.isElementSelected(locator);
-        ExtentReportManager.logInfo("Element selected: " + isSelected + " for element: " + locator);
+        logAction("Element selected: " + isSelected + " for element: " + locator);
         return isSelected;
     }
     
@@ -191,7 +195,7 @@ public class BasePage {
      */
     protected void selectDropdownByText(By locator, String optionText) {
         WebDriverUtils.selectDropdownByText(locator, optionText);
-        ExtentReportManager.logInfo("Selected dropdown option: " + optionText + " from dropdown: " + locator);
+        logAction("Selected dropdown option: " + optionText + " from dropdown: " + locator);
     }
     
     /**
@@ -201,7 +205,7 @@ public class BasePage {
      */
     protected void selectDropdownByValue(By locator, String optionValue) {
         WebDriverUtils.selectDropdownByValue(locator, optionValue);
-        ExtentReportManager.logInfo("Selected dropdown option by value: " + optionValue + " from dropdown: " + locator);
+        logAction("Selected dropdown option by value: " + optionValue + " from dropdown: " + locator);
     }
     
     /**
@@ -211,7 +215,7 @@ public class BasePage {
      */
     protected void selectDropdownByIndex(By locator, int optionIndex) {
         WebDriverUtils.selectDropdownByIndex(locator, optionIndex);
-        ExtentReportManager.logInfo("Selected dropdown option by index: " + optionIndex + " from dropdown: " + locator);
+        logAction("Selected dropdown option by index: " + optionIndex + " from dropdown: " + locator);
     }
     
     /**
@@ -220,7 +224,7 @@ public class BasePage {
      */
     protected void scrollToElement(By locator) {
         WebDriverUtils.scrollToElement(locator);
-        ExtentReportManager.logInfo("Scrolled to element: " + locator);
+        logAction("Scrolled to element: " + locator);
     }
     
     /**
@@ -228,7 +232,7 @@ public class BasePage {
      */
     protected void acceptAlert() {
         WebDriverUtils.acceptAlert();
-        ExtentReportManager.logInfo("Alert accepted");
+        logAction("Alert accepted");
     }
     
     /**
@@ -236,7 +240,7 @@ public class BasePage {
      */
     protected void dismissAlert() {
         WebDriverUtils.dismissAlert();
-        ExtentReportManager.logInfo("Alert dismissed");
+        logAction("Alert dismissed");
     }
     
     /**
@@ -245,7 +249,7 @@ public class BasePage {
      */
     protected String getAlertText() {
         String alertText = WebDriverUtils.getAlertText();
-        ExtentReportManager.logInfo("Alert text: " + alertText);
+        logAction("Alert text: " + alertText);
         return alertText;
     }
     
@@ -255,7 +259,7 @@ public class BasePage {
      */
     protected void sendKeysToAlert(String text) {
         WebDriverUtils.sendKeysToAlert(text);
-        ExtentReportManager.logInfo("Sent text to alert: " + text);
+        logAction("Sent text to alert: " + text);
     }
     
     /**
@@ -264,7 +268,7 @@ public class BasePage {
      */
     protected void switchToWindowByTitle(String windowTitle) {
         WebDriverUtils.switchToWindowByTitle(windowTitle);
-        ExtentReportManager.logInfo("Switched to window: " + windowTitle);
+        logAction("Switched to window: " + windowTitle);
     }
     
     /**
@@ -273,7 +277,7 @@ public class BasePage {
      */
     protected void switchToFrameByIndex(int frameIndex) {
         WebDriverUtils.switchToFrameByIndex(frameIndex);
-        ExtentReportManager.logInfo("Switched to frame by index: " + frameIndex);
+        logAction("Switched to frame by index: " + frameIndex);
     }
     
     /**
@@ -282,7 +286,7 @@ public class BasePage {
      */
     protected void switchToFrameByNameOrId(String frameNameOrId) {
         WebDriverUtils.switchToFrameByNameOrId(frameNameOrId);
-        ExtentReportManager.logInfo("Switched to frame: " + frameNameOrId);
+        logAction("Switched to frame: " + frameNameOrId);
     }
     
     /**
@@ -290,7 +294,7 @@ public class BasePage {
      */
     protected void switchToDefaultContent() {
         WebDriverUtils.switchToDefaultContent();
-        ExtentReportManager.logInfo("Switched to default content");
+        logAction("Switched to default content");
     }
     
     /**
@@ -298,7 +302,7 @@ public class BasePage {
      */
     protected void refreshPage() {
         WebDriverUtils.refreshPage();
-        ExtentReportManager.logInfo("Page refreshed");
+        logAction("Page refreshed");
     }
     
     /**
@@ -306,7 +310,7 @@ public class BasePage {
      */
     protected void navigateBack() {
         WebDriverUtils.navigateBack();
-        ExtentReportManager.logInfo("Navigated back");
+        logAction("Navigated back");
     }
     
     /**
@@ -314,7 +318,7 @@ public class BasePage {
      */
     protected void navigateForward() {
         WebDriverUtils.navigateForward();
-        ExtentReportManager.logInfo("Navigated forward");
+        logAction("Navigated forward");
     }
     
     /**
@@ -323,7 +327,7 @@ public class BasePage {
      */
     protected void waitForSeconds(int seconds) {
         WebDriverUtils.waitForSeconds(seconds);
-        ExtentReportManager.logInfo("Waited for " + seconds + " seconds");
+        logAction("Waited for " + seconds + " seconds");
     }
     
     /**
@@ -397,4 +401,14 @@ public class BasePage {
         
         return isDisplayed;
     }
+    
+    /**
+     * Log a page action to the report, unless the flight recorder keeps it for failure reports
+     * @param message Action message
+     */
+    protected void logAction(String message) {
+        if (!ConfigReader.isFlightRecorderEnabled()) {
+            ExtentReportManager.logInfo(message);
+        }
+    }
 }
\ No newline at end of file
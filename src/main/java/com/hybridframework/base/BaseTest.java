@@ -1,9 +1,17 @@
 package com.hybridframework.base;
 
-import com.hybridframework.constants.FrameworkConstants;
 import com.hybridframework.drivers.DriverManager;
+import com.hybridframework.drivers.NavigationManager;
+import com.hybridframework.listeners.FlightRecorderSubscriber;
+import com.hybridframework.listeners.ReportingSubscriber;
+import com.hybridframework.listeners.TestLifecycleBus;
+import com.hybridframework.listeners.TestLifecycleEvent;
 import com.hybridframework.utils.ConfigReader;
+import com.hybridframework.utils.ExcelResultWriter;
 import com.hybridframework.utils.ExtentReportManager;
+import com.hybridframework.utils.NavigationCircuitBreaker;
+import com.hybridframework.utils.PhaseTimer;
+import com.hybridframework.utils.TestDataIndex;
 import com.hybridframework.utils.WebDriverUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -16,153 +24,126 @@ import java.util.Objects;
 /**
  * Base test class providing common setup and teardown functionality
  */
+@SuppressWarnings("try")
 public class BaseTest {
     
     private static final Logger logger = LogManager.getLogger(BaseTest.class);
     
-    @BeforeSuite
+    @BeforeSuite(alwaysRun = true)
     public void beforeSuite() {
         logger.info("Starting test suite execution");
         ExtentReportManager.initializeExtentReports();
+        TestDataIndex.preloadDefaults();
+        if (ConfigReader.isFlightRecorderEnabled()) {
+            FlightRecorderSubscriber.lowerActionLogging();
+        }
         logger.info("Test suite setup completed");
     }
     
-    @BeforeClass
+    @BeforeClass(alwaysRun = true)
     public void beforeClass() {
         logger.info("Starting test class: " + this.getClass().getSimpleName());
     }
     
-    @BeforeMethod
-    public void beforeMethod(Method method) {
+    @BeforeMethod(alwaysRun = true)
+    public void beforeMethod(Method method, ITestResult result) {
         logger.info("Starting test method: " + method.getName());
+        PhaseTimer.begin();
+        boolean sessionBatch = isSessionBatch(method);
         
-        // Initialize WebDriver
-        String browserName = ConfigReader.getBrowser();
-        DriverManager.initializeDriver(browserName);
+        // Fail fast without launching a browser if the environment is known to be down
+        NavigationCircuitBreaker.ensureClosed();
         
-        // Create test in ExtentReports
-        String testName = method.getName();
-        String testDescription = getTestDescription(method);
-        String testCategory = getTestCategory(method);
+        // Drop a session left over by a preceding batch unless sessions are reused
+        if (!sessionBatch && !ConfigReader.isSessionReuse()) {
+            DriverManager.quitDriver();
+        }
         
-        if (Objects.nonNull(testCategory)) {
-            ExtentReportManager.createTest(testName, testDescription, testCategory);
-        } else {
-            ExtentReportManager.createTest(testName, testDescription);
+        // Initialize WebDriver, reusing the session kept by the previous test if any
+        String browserName = ConfigReader.getBrowser();
+        if (Objects.isNull(DriverManager.getDriver())) {
+            DriverManager.initializeDriver(browserName);
         }
         
-        // Navigate to application URL
-        String applicationUrl = ConfigReader.getApplicationUrl();
-        WebDriverUtils.navigateToUrl(applicationUrl);
+        // Start the report entry here so setup steps are logged to it; the listener's start event is then dropped
+        TestLifecycleBus.publish(TestLifecycleEvent.TEST_START, result);
+        
+        // Navigate to start URL, skipping the page load if the session is already there
+        String startUrl = getStartUrl();
+        try (PhaseTimer.Scope ignored = PhaseTimer.enter(PhaseTimer.Phase.NAVIGATION)) {
+            if (sessionBatch) {
+                NavigationManager.checkpoint(startUrl);
+            } else {
+                NavigationManager.navigateTo(startUrl);
+            }
+        }
         
         ExtentReportManager.logInfo("Browser launched: " + browserName);
-        ExtentReportManager.logInfo("Navigated to URL: " + applicationUrl);
+        ExtentReportManager.logInfo("Navigated to URL: " + startUrl);
         
         logger.info("Test method setup completed: " + method.getName());
     }
     
-    @AfterMethod
+    @AfterMethod(alwaysRun = true)
     public void afterMethod(ITestResult result) {
         String testName = result.getMethod().getMethodName();
         logger.info("Finishing test method: " + testName);
         
-        // Handle test result
-        handleTestResult(result);
-        
-        // Quit WebDriver
-        DriverManager.quitDriver();
-        
-        // Remove test from ThreadLocal
-        ExtentReportManager.removeTest();
+        try (PhaseTimer.Scope ignored = PhaseTimer.enter(PhaseTimer.Phase.TEARDOWN)) {
+            // Publish the outcome unless a listener already did, while the session is still open for screenshots
+            TestLifecycleBus.publishResult(result);
+            
+            // Keep a healthy session for the next test or scenario, otherwise quit WebDriver
+            boolean keepSession = ConfigReader.isSessionReuse()
+                    || isSessionBatch(result.getMethod().getConstructorOrMethod().getMethod());
+            if (keepSession && result.getStatus() == ITestResult.SUCCESS) {
+                NavigationManager.preload(getStartUrl());
+            } else {
+                DriverManager.quitDriver();
+            }
+            
+            // Release the report entry of this invocation
+            TestLifecycleBus.publish(TestLifecycleEvent.TEST_END, result);
+        }
+        PhaseTimer.finish(result, ReportingSubscriber.getTestName(result));
         
         logger.info("Test method teardown completed: " + testName);
     }
     
-    @AfterClass
+    @AfterClass(alwaysRun = true)
     public void afterClass() {
         logger.info("Finishing test class: " + this.getClass().getSimpleName());
+        
+        // Quit the session kept alive across test methods or batched scenarios
+        DriverManager.quitDriver();
     }
     
-    @AfterSuite
+    @AfterSuite(alwaysRun = true)
     public void afterSuite() {
         logger.info("Finishing test suite execution");
+        DriverManager.quitAllDrivers();
+        ExcelResultWriter.flush();
         ExtentReportManager.flushReports();
+        PhaseTimer.export();
+        FlightRecorderSubscriber.restoreActionLogging();
         logger.info("Test suite teardown completed");
     }
     
     /**
-     * Handle test result based on test status
-     * @param result Test result
-     */
-    private void handleTestResult(ITestResult result) {
-        String testName = result.getMethod().getMethodName();
-        
-        switch (result.getStatus()) {
-            case ITestResult.SUCCESS:
-                logger.info("Test PASSED: " + testName);
-                ExtentReportManager.logPass("Test passed successfully");
-                
-                // Take screenshot on pass if configured
-                if (ConfigReader.isScreenshotOnPass()) {
-                    String screenshotPath = WebDriverUtils.takeScreenshot(testName);
-                    if (Objects.nonNull(screenshotPath)) {
-                        ExtentReportManager.addScreenshotOnPass(screenshotPath);
-                    }
-                }
-                break;
-                
-            case ITestResult.FAILURE:
-                logger.error("Test FAILED: " + testName);
-                logger.error("Failure reason: " + result.getThrowable().getMessage());
-                
-                ExtentReportManager.logFail("Test failed: " + result.getThrowable().getMessage());
-                
-                // Take screenshot on failure if configured
-                if (ConfigReader.isScreenshotOnFail()) {
-                    String screenshotPath = WebDriverUtils.takeScreenshot(testName);
-                    if (Objects.nonNull(screenshotPath)) {
-                        ExtentReportManager.addScreenshotOnFailure(screenshotPath);
-                    }
-                }
-                break;
-                
-            case ITestResult.SKIP:
-                logger.warn("Test SKIPPED: " + testName);
-                logger.warn("Skip reason: " + result.getThrowable().getMessage());
-                
-                ExtentReportManager.logSkip("Test skipped: " + result.getThrowable().getMessage());
-                break;
-                
-            default:
-                logger.warn("Test result unknown: " + testName);
-                break;
-        }
-    }
-    
-    /**
-     * Get test description from method annotation
+     * Check if a test method runs its invocations as a session batch
      * @param method Test method
-     * @return Test description
+     * @return True if the method is annotated with SessionBatch
      */
-    private String getTestDescription(Method method) {
-        Test testAnnotation = method.getAnnotation(Test.class);
-        if (Objects.nonNull(testAnnotation) && !testAnnotation.description().isEmpty()) {
-            return testAnnotation.description();
-        }
-        return "Test method: " + method.getName();
+    private boolean isSessionBatch(Method method) {
+        return Objects.nonNull(method) && method.isAnnotationPresent(SessionBatch.class);
     }
     
     /**
-     * Get test category from method annotation
-     * @param method Test method
-     * @return Test category
+     * Get the URL each test method starts on
+     * @return Start URL
      */
-    private String getTestCategory(Method method) {
-        Test testAnnotation = method.getAnnotation(Test.class);
-        if (Objects.nonNull(testAnnotation) && testAnnotation.groups().length > 0) {
-            return String.join(", ", testAnnotation.groups());
-        }
-        return null;
+    protected String getStartUrl() {
+        return ConfigReader.getApplicationUrl();
     }
     
     /**
@@ -214,9 +195,6 @@ public class BaseTest {
      * @param screenshotName Screenshot name
      */
     protected void takeScreenshot(String screenshotName) {
-        String screenshotPath = WebDriverUtils.takeScreenshot(screenshotName);
-        if (Objects.nonNull(screenshotPath)) {
-            ExtentReportManager.addScreenshot(screenshotPath, screenshotName);
-        }
+        ExtentReportManager.addScreenshot(WebDriverUtils.takeScreenshotAsync(screenshotName), screenshotName);
     }
 }
\ No newline at end of file
@@ -0,0 +1,111 @@
+package com.hybridframework.base;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Batch of short named scenarios exposed as a TestNG data provider. Combined with
+ * {@link SessionBatch} on the consuming test method, every scenario runs in the same
+ * browser session and still gets its own TestNG result and ExtentReports entry.
+ *
+ * <pre>
+ * &#64;DataProvider(name = "negativeLogin")
+ * public Object[][] negativeLogin() {
+ *     return ScenarioBatch.named("Negative login")
+ *             .add("EmptyUsername", () -&gt; assertLoginRejected("", "Test@123"))
+ *             .add("EmptyPassword", () -&gt; assertLoginRejected("testuser", ""))
+ *             .toDataProvider();
+ * }
+ *
+ * &#64;SessionBatch
+ * &#64;Test(dataProvider = "negativeLogin")
+ * public void verifyNegativeLogin(ScenarioBatch.Scenario scenario) throws Exception {
+ *     scenario.run();
+ * }
+ * </pre>
+ */
+public class ScenarioBatch {
+
+    private final String name;
+    private final Map<String, Scenario> scenarios = new LinkedHashMap<>();
+
+    /**
+     * Scenario body
+     */
+    @FunctionalInterface
+    public interface Scenario {
+        void run() throws Exception;
+    }
+
+    private ScenarioBatch(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Create an empty batch
+     * @param name Batch name
+     * @return Scenario batch
+     */
+    public static ScenarioBatch named(String name) {
+        return new ScenarioBatch(name);
+    }
+
+    /**
+     * Add a scenario to the batch
+     * @param scenarioName Scenario name, reported as the test name suffix
+     * @param scenario Scenario body
+     * @return This batch
+     */
+    public ScenarioBatch add(String scenarioName, Scenario scenario) {
+        if (scenarios.containsKey(scenarioName)) {
+            throw new IllegalArgumentException("Duplicate scenario '" + scenarioName + "' in batch: " + name);
+        }
+        scenarios.put(scenarioName, scenario);
+        return this;
+    }
+
+    /**
+     * Get batch name
+     * @return Batch name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Convert the batch to data provider rows of {scenario}, each scenario reporting its name
+     * as its string form
+     * @return Data provider rows
+     */
+    public Object[][] toDataProvider() {
+        Object[][] rows = new Object[scenarios.size()][];
+        int index = 0;
+        for (Map.Entry<String, Scenario> entry : scenarios.entrySet()) {
+            rows[index++] = new Object[]{new NamedScenario(entry.getKey(), entry.getValue())};
+        }
+        return rows;
+    }
+
+    /**
+     * Scenario labelled with its name in TestNG and ExtentReports
+     */
+    private static final class NamedScenario implements Scenario {
+        private final String name;
+        private final Scenario body;
+
+        private NamedScenario(String name, Scenario body) {
+            this.name = name;
+            this.body = body;
+        }
+
+        @Override
+        public void run() throws Exception {
+            body.run();
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
\ No newline at end of file
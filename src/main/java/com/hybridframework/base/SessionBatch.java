@@ -0,0 +1,16 @@
+package com.hybridframework.base;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a test method whose invocations run back-to-back in one browser session, with an
+ * isolation checkpoint between them. Consecutive annotated methods share the session as
+ * well, so short scenarios can stay separate tests with their own results.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface SessionBatch {
+}
\ No newline at end of file
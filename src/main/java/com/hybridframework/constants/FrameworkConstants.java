@@ -18,10 +18,14 @@ public class FrameworkConstants {
     public static final int PAGE_LOAD_TIMEOUT = 30;
     public static final int FLUENT_WAIT_TIMEOUT = 30;
     public static final int FLUENT_WAIT_POLLING = 2;
+    public static final int PREFLIGHT_TIMEOUT_MILLIS = 3000;
+    public static final int CIRCUIT_BREAKER_THRESHOLD = 3;
     
     // Test data
     public static final String EXCEL_TEST_DATA = "TestData.xlsx";
     public static final String JSON_TEST_DATA = "TestData.json";
+    public static final String COMPILED_TEST_DATA_PATH = "target/compiled-testdata/";
+    public static final int EXCEL_RESULTS_FLUSH_INTERVAL_SECONDS = 5;
     
     // Browser names
     public static final String CHROME = "chrome";
@@ -43,16 +47,48 @@ public class FrameworkConstants {
     public static final String EXTENT_REPORT_PATH = "test-output/ExtentReport.html";
     public static final String EXTENT_REPORT_TITLE = "Selenium TestNG Hybrid Framework Report";
     public static final String EXTENT_REPORT_NAME = "Test Execution Report";
+    public static final int REPORT_QUEUE_CAPACITY = 10000;
+    public static final String REPORT_STORE_PATH = "test-output/report-store/";
+    public static final String REPORT_STORE_FILE = "report-store.jsonl";
+    public static final int REPORT_FLUSH_INTERVAL_SECONDS = 10;
+    public static final String EVENT_LOG_PATH = "test-output/event-logs/";
+    public static final String EVENT_LOG_PREFIX = "events-";
+    public static final String EVENT_LOG_EXTENSION = ".jsonl";
+    public static final String MERGED_REPORT_PATH = "test-output/MergedReport.html";
+    public static final String PHASE_TIMING_PATH = "test-output/phase-timings/";
+    public static final String PHASE_TIMING_PREFIX = "phase-timings-";
+    public static final String PHASE_TREND_FILE = "phase-trend.html";
+    public static final int PHASE_TIMING_TREND_RUNS = 10;
+    public static final String HISTORY_PATH = "test-output/history/";
+    public static final String HISTORY_DATA_FILE = "results.jsonl";
+    public static final String HISTORY_INDEX_FILE = "results.idx";
+    public static final int HISTORY_BASELINE_RUNS = 10;
+    public static final int HISTORY_REGRESSION_THRESHOLD_PERCENT = 50;
+    public static final int HISTORY_REGRESSION_MINIMUM_MS = 500;
+    public static final int HISTORY_MIN_BASELINE_SAMPLES = 3;
+    public static final int FLIGHT_RECORDER_SIZE = 50;
+    public static final int FLIGHT_RECORDER_CONSOLE_ENTRIES = 20;
     
     // Screenshot configuration
     public static final String SCREENSHOT_EXTENSION = ".png";
     public static final String SCREENSHOT_PREFIX = "Screenshot_";
+    public static final int SCREENSHOT_WRITER_THREADS = 2;
+    public static final int SCREENSHOT_QUEUE_CAPACITY = 50;
+    public static final String SCREENSHOT_FORMAT = "png";
+    public static final String SCREENSHOT_INDEX_FILE = "screenshot-index.txt";
+    public static final int SCREENSHOT_RETENTION_DAYS = 14;
     
     // Excel sheet names
     public static final String LOGIN_SHEET = "Login";
     public static final String USER_SHEET = "Users";
     public static final String TESTCASE_SHEET = "TestCases";
     
+    // Test data keys
+    public static final String LOGIN_TEST_DATA_KEY = "loginTestData";
+    public static final String LOGIN_INPUT_CLASSES_KEY = "loginInputClasses";
+    public static final String EXCEL_TEST_CASE_COLUMN = "TestCase";
+    public static final String JSON_TEST_CASE_COLUMN = "testCase";
+    
     // Database configuration
     public static final String DB_DRIVER = "com.mysql.cj.jdbc.Driver";
     public static final String DB_URL_KEY = "db.url";
@@ -68,7 +104,14 @@ public class FrameworkConstants {
     public static final String PROPERTIES_EXTENSION = ".properties";
     public static final String EXCEL_EXTENSION = ".xlsx";
     public static final String JSON_EXTENSION = ".json";
+    public static final String CSV_EXTENSION = ".csv";
     public static final String LOG_EXTENSION = ".log";
+    public static final String COMPILED_TEST_DATA_EXTENSION = ".tdb";
+    
+    // Authentication state configuration
+    public static final String AUTH_STATE_PATH = "test-output/auth-state/";
+    public static final int AUTH_STATE_TTL_MINUTES = 30;
+    public static final String AUTH_STATE_BOOTSTRAP_PATH = "/favicon.ico";
     
     // Private constructor to prevent instantiation
     private FrameworkConstants() {
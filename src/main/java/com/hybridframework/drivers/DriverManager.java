@@ -2,6 +2,8 @@ package com.hybridframework.drivers;
 
 import com.hybridframework.constants.FrameworkConstants;
 import com.hybridframework.utils.ConfigReader;
+import com.hybridframework.utils.FlightRecorder;
+import com.hybridframework.utils.PhaseTimer;
 import io.github.bonigarcia.wdm.WebDriverManager;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -12,19 +14,35 @@ import org.openqa.selenium.edge.EdgeDriver;
 import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.logging.LogType;
+import org.openqa.selenium.logging.LoggingPreferences;
 import org.openqa.selenium.safari.SafariDriver;
 import org.openqa.selenium.safari.SafariOptions;
 
+import java.io.File;
 import java.time.Duration;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
 
 /**
  * WebDriver manager for creating and managing browser instances
  */
+@SuppressWarnings("try")
 public class DriverManager {
     
     private static final Logger logger = LogManager.getLogger(DriverManager.class);
     private static final ThreadLocal<WebDriver> driver = new ThreadLocal<>();
+    private static final Set<WebDriver> activeDrivers = ConcurrentHashMap.newKeySet();
+    
+    private static final String[] CHROME_BINARY_PATHS = {
+        "/usr/bin/google-chrome",
+        "/usr/bin/google-chrome-stable",
+        "/usr/bin/chromium-browser",
+        "/usr/bin/chromium",
+        "/snap/bin/chromium"
+    };
     
     /**
      * Get WebDriver instance for current thread
@@ -41,6 +59,7 @@ public class DriverManager {
     public static void setDriver(WebDriver webDriver) {
         if (Objects.nonNull(webDriver)) {
             driver.set(webDriver);
+            activeDrivers.add(webDriver);
         }
     }
     
@@ -52,7 +71,7 @@ public class DriverManager {
     public static WebDriver initializeDriver(String browserName) {
         WebDriver webDriver = null;
         
-        try {
+        try (PhaseTimer.Scope ignored = PhaseTimer.enter(PhaseTimer.Phase.DRIVER_ACQUIRE)) {
             switch (browserName.toLowerCase()) {
                 case FrameworkConstants.CHROME:
                     webDriver = createChromeDriver();
@@ -71,6 +90,11 @@ public class DriverManager {
                     throw new IllegalArgumentException("Browser not supported: " + browserName);
             }
             
+            // Record the commands of this session for failure reports
+            if (ConfigReader.isFlightRecorderEnabled()) {
+                webDriver = FlightRecorder.decorate(webDriver);
+            }
+            
             // Set driver in ThreadLocal
             setDriver(webDriver);
             
@@ -115,6 +139,13 @@ public class DriverManager {
         options.addArguments("--disable-ipc-flooding-protection");
         options.addArguments("--remote-debugging-port=9222");
         
+        // Keep browser console entries for the flight recorder
+        if (ConfigReader.isFlightRecorderEnabled()) {
+            LoggingPreferences loggingPreferences = new LoggingPreferences();
+            loggingPreferences.enable(LogType.BROWSER, Level.ALL);
+            options.setCapability(ChromeOptions.LOGGING_PREFS, loggingPreferences);
+        }
+        
         // Set headless mode if configured
         if (ConfigReader.isHeadless()) {
             options.addArguments("--headless=new");
@@ -126,26 +157,28 @@ public class DriverManager {
         }
         
         // Try to find Chrome binary in common locations
-        String[] chromePaths = {
-            "/usr/bin/google-chrome",
-            "/usr/bin/google-chrome-stable",
-            "/usr/bin/chromium-browser",
-            "/usr/bin/chromium",
-            "/snap/bin/chromium"
-        };
-        
-        for (String path : chromePaths) {
-            java.io.File chromeFile = new java.io.File(path);
-            if (chromeFile.exists()) {
-                options.setBinary(path);
-                logger.info("Using Chrome binary: " + path);
-                break;
-            }
+        String chromeBinary = findChromeBinary();
+        if (Objects.nonNull(chromeBinary)) {
+            options.setBinary(chromeBinary);
+            logger.info("Using Chrome binary: " + chromeBinary);
         }
         
         return new ChromeDriver(options);
     }
     
+    /**
+     * Find Chrome binary in common locations
+     * @return Chrome binary path or null if none of the known locations exists
+     */
+    public static String findChromeBinary() {
+        for (String path : CHROME_BINARY_PATHS) {
+            if (new File(path).exists()) {
+                return path;
+            }
+        }
+        return null;
+    }
+    
     /**
      * Create Firefox driver with options
      * @return Firefox WebDriver
@@ -224,9 +257,26 @@ public class DriverManager {
             } catch (Exception e) {
                 logger.error("Error while quitting WebDriver", e);
             } finally {
+                activeDrivers.remove(webDriver);
                 driver.remove();
+                NavigationManager.reset();
+            }
+        }
+    }
+    
+    /**
+     * Quit every WebDriver still open, including sessions kept alive by other threads
+     */
+    public static void quitAllDrivers() {
+        quitDriver();
+        for (WebDriver webDriver : activeDrivers) {
+            try {
+                webDriver.quit();
+            } catch (Exception e) {
+                logger.error("Error while quitting WebDriver", e);
             }
         }
+        activeDrivers.clear();
     }
     
     /**
@@ -0,0 +1,149 @@
+package com.hybridframework.drivers;
+
+import com.hybridframework.utils.ConfigReader;
+import com.hybridframework.utils.WebDriverUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Objects;
+
+/**
+ * Navigation manager tracking the page state of each session so redundant page loads can be skipped.
+ * A page load can only be saved on a session kept from the previous test, so this takes effect with
+ * browser.session.reuse=true or within a SessionBatch method. Every action that changes page state
+ * must call {@link #markDirty()}.
+ */
+public class NavigationManager {
+
+    private static final Logger logger = LogManager.getLogger(NavigationManager.class);
+    private static final ThreadLocal<Boolean> dirty = ThreadLocal.withInitial(() -> Boolean.TRUE);
+
+    private static final String CLEAR_STORAGE_SCRIPT =
+            "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}";
+
+    private static final String RESET_FIELDS_SCRIPT =
+            "document.querySelectorAll('form').forEach(function (f) { f.reset(); });"
+            + "document.querySelectorAll('input:not([type=hidden]), textarea').forEach(function (e) { e.value = ''; });";
+
+    private static final String PRELOAD_SCRIPT =
+            "var link = document.createElement('link');"
+            + "link.rel = 'prefetch'; link.href = arguments[0];"
+            + "document.head.appendChild(link);";
+
+    /**
+     * Bring the current session to the given URL in a clean state, skipping the page load
+     * when the session is already there and untouched, soft-resetting it when it is there
+     * but has been interacted with, and clearing cookies and storage before any other page load
+     * @param url Start URL
+     */
+    public static void navigateTo(String url) {
+        WebDriver webDriver = DriverManager.getDriver();
+        String currentUrl = webDriver.getCurrentUrl();
+
+        if (!ConfigReader.isSkipRedundantNavigation()) {
+            WebDriverUtils.navigateToUrl(url);
+        } else if (url.equals(currentUrl) && !isDirty()) {
+            logger.info("Session already on URL in clean state, skipping navigation: " + url);
+        } else if (url.equals(currentUrl)) {
+            softReset(webDriver);
+            logger.info("Soft reset page: " + url);
+        } else {
+            // Always clear across URLs: state may have been set by paths that do not mark the page dirty
+            clearSessionState(webDriver);
+            WebDriverUtils.navigateToUrl(url);
+        }
+
+        dirty.set(Boolean.FALSE);
+    }
+
+    /**
+     * Isolation checkpoint between batched scenarios: clear form fields, cookies and web
+     * storage, then soft reload the start URL instead of opening a new session
+     * @param url Start URL
+     */
+    public static void checkpoint(String url) {
+        WebDriver webDriver = DriverManager.getDriver();
+
+        try {
+            ((JavascriptExecutor) webDriver).executeScript(RESET_FIELDS_SCRIPT);
+        } catch (Exception e) {
+            logger.debug("Failed to reset form fields", e);
+        }
+        clearSessionState(webDriver);
+
+        if (url.equals(webDriver.getCurrentUrl())) {
+            webDriver.navigate().refresh();
+        } else {
+            WebDriverUtils.navigateToUrl(url);
+        }
+
+        dirty.set(Boolean.FALSE);
+        logger.info("Isolation checkpoint completed: " + url);
+    }
+
+    /**
+     * Hint the browser to fetch the next start URL while the session is idle
+     * @param url Next start URL
+     */
+    public static void preload(String url) {
+        WebDriver webDriver = DriverManager.getDriver();
+        if (Objects.isNull(webDriver) || !ConfigReader.isPreloadNextUrl()) {
+            return;
+        }
+
+        try {
+            if (!url.equals(webDriver.getCurrentUrl())) {
+                ((JavascriptExecutor) webDriver).executeScript(PRELOAD_SCRIPT, url);
+                logger.debug("Preloading next start URL: " + url);
+            }
+        } catch (Exception e) {
+            logger.debug("Failed to preload URL: " + url, e);
+        }
+    }
+
+    /**
+     * Mark the current page as modified by the test
+     */
+    public static void markDirty() {
+        dirty.set(Boolean.TRUE);
+    }
+
+    /**
+     * Check if the current page has been modified since the last navigation
+     * @return True if the page is dirty
+     */
+    public static boolean isDirty() {
+        return dirty.get();
+    }
+
+    /**
+     * Forget the tracked state of the current session
+     */
+    public static void reset() {
+        dirty.remove();
+    }
+
+    /**
+     * Reset the current page without a fresh navigation
+     * @param webDriver WebDriver instance
+     */
+    private static void softReset(WebDriver webDriver) {
+        clearSessionState(webDriver);
+        webDriver.navigate().refresh();
+    }
+
+    /**
+     * Clear cookies and web storage left behind by the previous test
+     * @param webDriver WebDriver instance
+     */
+    private static void clearSessionState(WebDriver webDriver) {
+        try {
+            webDriver.manage().deleteAllCookies();
+            ((JavascriptExecutor) webDriver).executeScript(CLEAR_STORAGE_SCRIPT);
+        } catch (Exception e) {
+            logger.debug("Failed to clear session state", e);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,115 @@
+package com.hybridframework.listeners;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.hybridframework.constants.FrameworkConstants;
+import com.hybridframework.utils.ConfigReader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.ITestResult;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Writes this process's test lifecycle events to its own append-only JSONL log, one event per
+ * line, so parallel JVMs never share a report file. The logs of all forks are merged into a
+ * single report by {@link com.hybridframework.utils.ReportBuilder}.
+ */
+public class EventLogSubscriber implements TestLifecycleSubscriber {
+
+    private static final Logger logger = LogManager.getLogger(EventLogSubscriber.class);
+    private static final String TEST_ID_ATTRIBUTE = "eventlog.id";
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private final String fork = ManagementFactory.getRuntimeMXBean().getName();
+    private final AtomicLong testIds = new AtomicLong();
+    private BufferedWriter writer;
+    private boolean failed;
+
+    @Override
+    public void onEvent(TestLifecycleEvent event, ITestResult result) {
+        ObjectNode line = mapper.createObjectNode();
+        line.put("time", System.currentTimeMillis());
+        line.put("fork", fork);
+        line.put("id", getTestId(event, result));
+        line.put("event", event.name());
+        switch (event) {
+            case TEST_START:
+                line.put("name", ReportingSubscriber.getTestName(result));
+                line.put("description", ReportingSubscriber.getTestDescription(result));
+                line.put("category", ReportingSubscriber.getTestCategory(result));
+                line.put("thread", Thread.currentThread().getName());
+                break;
+            case TEST_FAIL:
+            case TEST_SKIP:
+                line.put("message", ReportingSubscriber.getReason(result));
+                break;
+            default:
+                break;
+        }
+        write(line.toString(), event != TestLifecycleEvent.TEST_START);
+    }
+
+    /**
+     * Get the id of an invocation within this fork, assigned when it starts
+     * @param event Lifecycle event
+     * @param result Test result
+     * @return Test id
+     */
+    private long getTestId(TestLifecycleEvent event, ITestResult result) {
+        Object id = result.getAttribute(TEST_ID_ATTRIBUTE);
+        if (Objects.isNull(id) || event == TestLifecycleEvent.TEST_START) {
+            id = testIds.incrementAndGet();
+            result.setAttribute(TEST_ID_ATTRIBUTE, id);
+        }
+        return (Long) id;
+    }
+
+    /**
+     * Append one line to this fork's log, opening it on first use
+     * @param line Serialized event
+     * @param flush True to push the line to disk now
+     */
+    private synchronized void write(String line, boolean flush) {
+        if (failed) {
+            return;
+        }
+        try {
+            if (Objects.isNull(writer)) {
+                File logFile = new File(ConfigReader.getEventLogPath(), FrameworkConstants.EVENT_LOG_PREFIX
+                        + fork.replaceAll("[^A-Za-z0-9_-]", "_") + "-" + System.currentTimeMillis() + FrameworkConstants.EVENT_LOG_EXTENSION);
+                Files.createDirectories(logFile.getAbsoluteFile().getParentFile().toPath());
+                writer = Files.newBufferedWriter(logFile.toPath(), StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+                Runtime.getRuntime().addShutdownHook(new Thread(this::close, "event-log-close"));
+                logger.info("Writing test event log: " + logFile.getPath());
+            }
+            writer.write(line);
+            writer.write('\n');
+            if (flush) {
+                writer.flush();
+            }
+        } catch (IOException e) {
+            failed = true;
+            logger.error("Failed to write test event log, disabling it for this run", e);
+        }
+    }
+
+    private synchronized void close() {
+        try {
+            if (Objects.nonNull(writer)) {
+                writer.close();
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to close test event log", e);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,73 @@
+package com.hybridframework.listeners;
+
+import com.hybridframework.base.BasePage;
+import com.hybridframework.drivers.DriverManager;
+import com.hybridframework.utils.ExtentReportManager;
+import com.hybridframework.utils.FlightRecorder;
+import com.hybridframework.utils.WebDriverUtils;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.testng.ITestResult;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Empties the thread's flight recorder when a test starts and writes its last WebDriver
+ * commands and browser console entries to the log and report when the test fails. With the
+ * recorder on, BaseTest lowers the page and WebDriver action loggers to WARN for the suite,
+ * as failed tests get that per-action detail from the recorder, and restores them at suite end.
+ */
+public class FlightRecorderSubscriber implements TestLifecycleSubscriber {
+
+    private static final Logger logger = LogManager.getLogger(FlightRecorderSubscriber.class);
+    private static final List<String> ACTION_LOGGERS = List.of(BasePage.class.getName(), WebDriverUtils.class.getName());
+    private static final Map<String, Level> savedLevels = new HashMap<>();
+
+    /**
+     * Lower the action loggers to WARN, remembering their levels
+     */
+    public static synchronized void lowerActionLogging() {
+        if (!savedLevels.isEmpty()) {
+            return;
+        }
+        for (String name : ACTION_LOGGERS) {
+            savedLevels.put(name, LogManager.getLogger(name).getLevel());
+            Configurator.setLevel(name, Level.WARN);
+        }
+    }
+
+    /**
+     * Restore the action loggers to their levels before {@link #lowerActionLogging()}
+     */
+    public static synchronized void restoreActionLogging() {
+        savedLevels.forEach(Configurator::setLevel);
+        savedLevels.clear();
+    }
+
+    @Override
+    public void onEvent(TestLifecycleEvent event, ITestResult result) {
+        if (event == TestLifecycleEvent.TEST_START) {
+            FlightRecorder.clear();
+            return;
+        }
+        if (event != TestLifecycleEvent.TEST_FAIL) {
+            return;
+        }
+
+        List<String> commands = FlightRecorder.getCommands();
+        List<String> console = FlightRecorder.getConsoleEntries(DriverManager.getDriver());
+        StringBuilder dump = new StringBuilder("Last " + commands.size() + " WebDriver commands:");
+        commands.forEach(command -> dump.append('\n').append(command));
+        if (!console.isEmpty()) {
+            dump.append("\n\nLast ").append(console.size()).append(" browser console entries:");
+            console.forEach(entry -> dump.append('\n').append(entry));
+        }
+
+        logger.warn("Flight recorder of " + result.getMethod().getMethodName() + "\n" + dump);
+        ExtentReportManager.logCodeBlock(dump.toString());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,139 @@
+package com.hybridframework.listeners;
+
+import com.hybridframework.utils.ConfigReader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IConfigurationListener;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.SkipException;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fail-fast gating listener. When a test or setup in a gate group (e.g. smoke) fails,
+ * tests in its dependent groups are skipped immediately with the gate failure as root cause.
+ * Gates are declared in config as gate.groups and gate.&lt;group&gt;.dependents.
+ */
+public class GatingListener implements IInvokedMethodListener, ITestListener, IConfigurationListener {
+
+    private static final Logger logger = LogManager.getLogger(GatingListener.class);
+    private final Map<String, String> failedGates = new ConcurrentHashMap<>();
+    private final Map<String, List<String>> gates;
+
+    public GatingListener() {
+        this(null);
+    }
+
+    /**
+     * Create a listener with explicit gates instead of the configured ones
+     * @param gates Dependent groups per gate group, or null to use gate.groups from config
+     */
+    public GatingListener(Map<String, List<String>> gates) {
+        this.gates = gates;
+    }
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!isEnabled() || failedGates.isEmpty()) {
+            return;
+        }
+
+        // Gate before @BeforeMethod as well so skipped tests never launch a browser
+        ITestNGMethod testMethod = method.getTestMethod();
+        if (!method.isTestMethod() && !testMethod.isBeforeMethodConfiguration()) {
+            return;
+        }
+
+        Set<String> activeGroups = getActiveGroups(testResult);
+        for (Map.Entry<String, String> gate : failedGates.entrySet()) {
+            if (activeGroups.contains(gate.getKey())) {
+                continue;
+            }
+            for (String dependent : getDependents(gate.getKey())) {
+                if (activeGroups.contains(dependent)) {
+                    throw new SkipException("Skipped by fail-fast gate: " + gate.getValue());
+                }
+            }
+        }
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        tripGates(result);
+    }
+
+    @Override
+    public void onConfigurationFailure(ITestResult result) {
+        tripGates(result);
+    }
+
+    /**
+     * Record a failure against every gate group the failing method is running in
+     * @param result Failed test or configuration result
+     */
+    private void tripGates(ITestResult result) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        Set<String> activeGroups = getActiveGroups(result);
+        for (String gate : getGateGroups()) {
+            if (activeGroups.contains(gate) && !failedGates.containsKey(gate)) {
+                String cause = Objects.nonNull(result.getThrowable()) ? result.getThrowable().getMessage() : "unknown cause";
+                String rootCause = "gate group '" + gate + "' failed in " + result.getMethod().getMethodName() + ": " + cause;
+                failedGates.putIfAbsent(gate, rootCause);
+                logger.error("Fail-fast " + rootCause + ". Dependent groups will be skipped: " + getDependents(gate));
+            }
+        }
+    }
+
+    /**
+     * Check if gating applies: always for explicit gates, else per gating.enabled
+     * @return True if gating is enabled
+     */
+    private boolean isEnabled() {
+        return Objects.nonNull(gates) || ConfigReader.isGatingEnabled();
+    }
+
+    /**
+     * Get gate groups whose failure skips their dependent groups
+     * @return Gate groups
+     */
+    private Collection<String> getGateGroups() {
+        return Objects.nonNull(gates) ? gates.keySet() : ConfigReader.getGateGroups();
+    }
+
+    /**
+     * Get groups depending on a gate group
+     * @param gate Gate group
+     * @return Dependent groups
+     */
+    private List<String> getDependents(String gate) {
+        return Objects.nonNull(gates) ? gates.getOrDefault(gate, List.of()) : ConfigReader.getGateDependents(gate);
+    }
+
+    /**
+     * Get the groups a method is running under: the groups included by the current
+     * &lt;test&gt; block, or the method's own groups if the block does not filter by group
+     * @param result Test or configuration result
+     * @return Active groups
+     */
+    private Set<String> getActiveGroups(ITestResult result) {
+        List<String> includedGroups = result.getTestContext().getCurrentXmlTest().getIncludedGroups();
+        if (!includedGroups.isEmpty()) {
+            return new HashSet<>(includedGroups);
+        }
+        return new HashSet<>(Arrays.asList(result.getMethod().getGroups()));
+    }
+}
\ No newline at end of file
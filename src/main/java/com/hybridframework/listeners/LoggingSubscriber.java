@@ -0,0 +1,36 @@
+package com.hybridframework.listeners;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.ITestResult;
+
+/**
+ * Logs test lifecycle events
+ */
+public class LoggingSubscriber implements TestLifecycleSubscriber {
+
+    private static final Logger logger = LogManager.getLogger(LoggingSubscriber.class);
+
+    @Override
+    public void onEvent(TestLifecycleEvent event, ITestResult result) {
+        String testName = result.getMethod().getMethodName();
+        switch (event) {
+            case TEST_START:
+                logger.info("Test started: " + testName);
+                break;
+            case TEST_PASS:
+                logger.info("Test PASSED: " + testName);
+                break;
+            case TEST_FAIL:
+                logger.error("Test FAILED: " + testName);
+                logger.error("Failure reason: " + ReportingSubscriber.getReason(result));
+                break;
+            case TEST_SKIP:
+                logger.warn("Test SKIPPED: " + testName);
+                logger.warn("Skip reason: " + ReportingSubscriber.getReason(result));
+                break;
+            default:
+                break;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.hybridframework.listeners;
+
+import com.hybridframework.utils.ConfigReader;
+import com.hybridframework.utils.EnvironmentProbe;
+import com.hybridframework.utils.NavigationCircuitBreaker;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import java.util.List;
+
+/**
+ * Suite listener running the pre-flight environment probe before any browser is launched
+ */
+public class PreflightListener implements ISuiteListener {
+
+    private static final Logger logger = LogManager.getLogger(PreflightListener.class);
+
+    @Override
+    public void onStart(ISuite suite) {
+        if (!ConfigReader.isPreflightEnabled()) {
+            return;
+        }
+
+        logger.info("Running pre-flight environment probe for suite: " + suite.getName());
+        List<String> failures = EnvironmentProbe.probe();
+        if (!failures.isEmpty()) {
+            NavigationCircuitBreaker.trip("Pre-flight check failed: " + String.join("; ", failures));
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,104 @@
+package com.hybridframework.listeners;
+
+import com.hybridframework.base.SessionBatch;
+import com.hybridframework.constants.FrameworkConstants;
+import com.hybridframework.utils.ExtentReportManager;
+import org.testng.ITestResult;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Creates one ExtentReports entry per test invocation and records its outcome
+ */
+public class ReportingSubscriber implements TestLifecycleSubscriber {
+
+    @Override
+    public void onEvent(TestLifecycleEvent event, ITestResult result) {
+        switch (event) {
+            case TEST_START:
+                ExtentReportManager.createTest(getTestName(result), getTestDescription(result), getTestCategory(result));
+                break;
+            case TEST_PASS:
+                ExtentReportManager.logPass("Test passed successfully");
+                break;
+            case TEST_FAIL:
+                ExtentReportManager.logFail("Test failed: " + getReason(result));
+                break;
+            case TEST_SKIP:
+                ExtentReportManager.logSkip("Test skipped: " + getReason(result));
+                break;
+            case TEST_END:
+                ExtentReportManager.removeTest();
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Get the failure or skip reason of a result
+     * @param result Test result
+     * @return Throwable message, or "unknown cause"
+     */
+    static String getReason(ITestResult result) {
+        return Objects.nonNull(result.getThrowable()) ? result.getThrowable().getMessage() : "unknown cause";
+    }
+
+    /**
+     * Get the report name of an invocation, one entry per batched scenario or data row
+     * @param result Test result
+     * @return Method name, with the invocation label for batched or data-driven tests
+     */
+    public static String getTestName(ITestResult result) {
+        String testName = result.getMethod().getMethodName();
+        Object[] parameters = result.getParameters();
+        Method method = result.getMethod().getConstructorOrMethod().getMethod();
+        boolean sessionBatch = Objects.nonNull(method) && method.isAnnotationPresent(SessionBatch.class);
+        if (parameters.length > 0 && (sessionBatch || parameters[0] instanceof Map)) {
+            testName = testName + " [" + getInvocationLabel(parameters[0]) + "]";
+        }
+        return testName;
+    }
+
+    /**
+     * Get a short label for one data-driven invocation
+     * @param parameter First test parameter (scenario name or data row)
+     * @return Test case key of a data row, else the parameter itself
+     */
+    private static String getInvocationLabel(Object parameter) {
+        if (parameter instanceof Map) {
+            Map<?, ?> row = (Map<?, ?>) parameter;
+            Object testCase = row.get(FrameworkConstants.JSON_TEST_CASE_COLUMN);
+            if (Objects.isNull(testCase)) {
+                testCase = row.get(FrameworkConstants.EXCEL_TEST_CASE_COLUMN);
+            }
+            return String.valueOf(Objects.nonNull(testCase) ? testCase : row);
+        }
+        return String.valueOf(parameter);
+    }
+
+    /**
+     * Get test description from the test annotation
+     * @param result Test result
+     * @return Test description
+     */
+    static String getTestDescription(ITestResult result) {
+        String description = result.getMethod().getDescription();
+        if (Objects.nonNull(description) && !description.isEmpty()) {
+            return description;
+        }
+        return "Test method: " + result.getMethod().getMethodName();
+    }
+
+    /**
+     * Get test category from the test groups
+     * @param result Test result
+     * @return Comma separated groups, or null if there are none
+     */
+    static String getTestCategory(ITestResult result) {
+        String[] groups = result.getMethod().getGroups();
+        return groups.length > 0 ? String.join(", ", groups) : null;
+    }
+}
\ No newline at end of file
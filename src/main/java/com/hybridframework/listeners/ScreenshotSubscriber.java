@@ -0,0 +1,34 @@
+package com.hybridframework.listeners;
+
+import com.hybridframework.drivers.DriverManager;
+import com.hybridframework.utils.ConfigReader;
+import com.hybridframework.utils.ExtentReportManager;
+import com.hybridframework.utils.WebDriverUtils;
+import org.testng.ITestResult;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Attaches a screenshot to passed and failed tests as configured. Registered after the
+ * reporting subscriber so the screenshot follows the outcome entry.
+ */
+public class ScreenshotSubscriber implements TestLifecycleSubscriber {
+
+    @Override
+    public void onEvent(TestLifecycleEvent event, ITestResult result) {
+        boolean pass = event == TestLifecycleEvent.TEST_PASS && ConfigReader.isScreenshotOnPass();
+        boolean fail = event == TestLifecycleEvent.TEST_FAIL && ConfigReader.isScreenshotOnFail();
+        if ((!pass && !fail) || Objects.isNull(DriverManager.getDriver())) {
+            return;
+        }
+
+        // Only the capture runs on the test thread; the file is written in the background
+        CompletableFuture<String> screenshot = WebDriverUtils.takeScreenshotAsync(result.getMethod().getMethodName());
+        if (pass) {
+            ExtentReportManager.addScreenshotOnPass(screenshot);
+        } else {
+            ExtentReportManager.addScreenshotOnFailure(screenshot);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.hybridframework.listeners;
+
+import com.hybridframework.utils.ConfigReader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+/**
+ * Suite listener feeding TestNG suite parameters (browser, headless, environment, ...) into
+ * the configuration snapshot. Register it first so later listeners see the final values.
+ */
+public class SuiteConfigListener implements ISuiteListener {
+
+    private static final Logger logger = LogManager.getLogger(SuiteConfigListener.class);
+
+    @Override
+    public void onStart(ISuite suite) {
+        logger.info("Applying suite parameters for suite: " + suite.getName());
+        ConfigReader.applySuiteParameters(suite.getXmlSuite().getParameters());
+    }
+}
\ No newline at end of file
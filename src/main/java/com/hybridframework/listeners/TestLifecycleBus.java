@@ -0,0 +1,141 @@
+package com.hybridframework.listeners;
+
+import com.hybridframework.utils.ConfigReader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.ITestResult;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Single dispatch point for test lifecycle events. BaseTest and the TestNG listeners publish
+ * here instead of reporting directly; logging, reporting and screenshots subscribe once, in
+ * that order. Each event is delivered at most once per test invocation, whichever of the
+ * publishers reaches it first, and only the first outcome (pass, fail or skip) is delivered.
+ * With flight.recorder.enabled, failed tests get their last WebDriver commands reported, and
+ * with event.log.enabled, the events are also written to this process's event log.
+ */
+public class TestLifecycleBus {
+
+    private static final Logger logger = LogManager.getLogger(TestLifecycleBus.class);
+    private static final String PUBLISHED_ATTRIBUTE = "lifecycle.published";
+    private static final Map<String, TestLifecycleSubscriber> subscribers = new LinkedHashMap<>();
+    private static volatile List<TestLifecycleSubscriber> ordered = Collections.emptyList();
+
+    static {
+        subscribe("logging", new LoggingSubscriber());
+        subscribe("reporting", new ReportingSubscriber());
+        subscribe("screenshots", new ScreenshotSubscriber());
+        if (ConfigReader.isFlightRecorderEnabled()) {
+            subscribe("flightRecorder", new FlightRecorderSubscriber());
+        }
+        if (ConfigReader.isEventLogEnabled()) {
+            subscribe("eventLog", new EventLogSubscriber());
+        }
+    }
+
+    /**
+     * Register a subscriber after those already registered
+     * @param name Unique subscriber name
+     * @param subscriber Subscriber
+     * @return False if a subscriber with this name is already registered
+     */
+    public static synchronized boolean subscribe(String name, TestLifecycleSubscriber subscriber) {
+        if (subscribers.containsKey(name)) {
+            return false;
+        }
+        subscribers.put(name, subscriber);
+        ordered = Collections.unmodifiableList(new ArrayList<>(subscribers.values()));
+        return true;
+    }
+
+    /**
+     * Remove a subscriber
+     * @param name Subscriber name
+     */
+    public static synchronized void unsubscribe(String name) {
+        if (Objects.nonNull(subscribers.remove(name))) {
+            ordered = Collections.unmodifiableList(new ArrayList<>(subscribers.values()));
+        }
+    }
+
+    /**
+     * Publish an event for a test invocation unless it was already published for it.
+     * An outcome published before the start event also publishes the start event.
+     * @param event Lifecycle event
+     * @param result Test result of the invocation
+     */
+    public static void publish(TestLifecycleEvent event, ITestResult result) {
+        if (event.isStatus() && markPublished(result, TestLifecycleEvent.TEST_START)) {
+            dispatch(TestLifecycleEvent.TEST_START, result);
+        }
+        if (markPublished(result, event)) {
+            dispatch(event, result);
+        }
+    }
+
+    /**
+     * Publish the outcome event matching a result's status
+     * @param result Finished test result
+     */
+    public static void publishResult(ITestResult result) {
+        switch (result.getStatus()) {
+            case ITestResult.SUCCESS:
+                publish(TestLifecycleEvent.TEST_PASS, result);
+                break;
+            case ITestResult.FAILURE:
+                publish(TestLifecycleEvent.TEST_FAIL, result);
+                break;
+            case ITestResult.SKIP:
+                publish(TestLifecycleEvent.TEST_SKIP, result);
+                break;
+            default:
+                logger.warn("Test result unknown: " + result.getMethod().getMethodName());
+                break;
+        }
+    }
+
+    /**
+     * Record an event as published for an invocation. The record is a result attribute, which
+     * TestNG carries over from the @BeforeMethod result to the test result.
+     * @param result Test result
+     * @param event Lifecycle event
+     * @return True if the event was not published before
+     */
+    @SuppressWarnings("unchecked")
+    private static boolean markPublished(ITestResult result, TestLifecycleEvent event) {
+        synchronized (result) {
+            Set<TestLifecycleEvent> published = (Set<TestLifecycleEvent>) result.getAttribute(PUBLISHED_ATTRIBUTE);
+            if (Objects.isNull(published)) {
+                published = EnumSet.noneOf(TestLifecycleEvent.class);
+                result.setAttribute(PUBLISHED_ATTRIBUTE, published);
+            }
+            if (event.isStatus() && published.stream().anyMatch(TestLifecycleEvent::isStatus)) {
+                return false;
+            }
+            return published.add(event);
+        }
+    }
+
+    /**
+     * Deliver an event to every subscriber in registration order
+     * @param event Lifecycle event
+     * @param result Test result
+     */
+    private static void dispatch(TestLifecycleEvent event, ITestResult result) {
+        for (TestLifecycleSubscriber subscriber : ordered) {
+            try {
+                subscriber.onEvent(event, result);
+            } catch (Exception e) {
+                logger.error("Lifecycle subscriber failed on " + event + " for " + result.getMethod().getMethodName(), e);
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.hybridframework.listeners;
+
+/**
+ * Test lifecycle events published on the {@link TestLifecycleBus}
+ */
+public enum TestLifecycleEvent {
+    TEST_START,
+    TEST_PASS,
+    TEST_FAIL,
+    TEST_SKIP,
+    TEST_END;
+
+    /**
+     * Check if the event reports a test outcome
+     * @return True for pass, fail and skip
+     */
+    public boolean isStatus() {
+        return this == TEST_PASS || this == TEST_FAIL || this == TEST_SKIP;
+    }
+}
\ No newline at end of file
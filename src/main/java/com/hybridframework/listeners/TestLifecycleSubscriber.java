@@ -0,0 +1,17 @@
+package com.hybridframework.listeners;
+
+import org.testng.ITestResult;
+
+/**
+ * Receiver of test lifecycle events, registered on the {@link TestLifecycleBus}
+ */
+@FunctionalInterface
+public interface TestLifecycleSubscriber {
+
+    /**
+     * Handle a lifecycle event; called on the test's own thread
+     * @param event Lifecycle event
+     * @param result Test result of the invocation
+     */
+    void onEvent(TestLifecycleEvent event, ITestResult result);
+}
\ No newline at end of file
@@ -1,40 +1,30 @@
 package com.hybridframework.listeners;
 
-import com.hybridframework.utils.ExtentReportManager;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
 import org.testng.ITestListener;
 import org.testng.ITestResult;
 
 /**
- * TestNG listener for handling test execution events
+ * TestNG listener publishing test execution events on the {@link TestLifecycleBus}
  */
 public class TestListener implements ITestListener {
     
-    private static final Logger logger = LogManager.getLogger(TestListener.class);
-    
     @Override
     public void onTestStart(ITestResult result) {
-        logger.info("Test started: " + result.getMethod().getMethodName());
-        ExtentReportManager.logInfo("Test execution started: " + result.getMethod().getMethodName());
+        TestLifecycleBus.publish(TestLifecycleEvent.TEST_START, result);
     }
     
     @Override
     public void onTestSuccess(ITestResult result) {
-        logger.info("Test passed: " + result.getMethod().getMethodName());
-        ExtentReportManager.logPass("Test passed: " + result.getMethod().getMethodName());
+        TestLifecycleBus.publish(TestLifecycleEvent.TEST_PASS, result);
     }
     
     @Override
     public void onTestFailure(ITestResult result) {
-        logger.error("Test failed: " + result.getMethod().getMethodName());
-        logger.error("Failure reason: " + result.getThrowable().getMessage());
-        ExtentReportManager.logFail("Test failed: " + result.getThrowable().getMessage());
+        TestLifecycleBus.publish(TestLifecycleEvent.TEST_FAIL, result);
     }
     
     @Override
     public void onTestSkipped(ITestResult result) {
-        logger.warn("Test skipped: " + result.getMethod().getMethodName());
-        ExtentReportManager.logSkip("Test skipped: " + result.getThrowable().getMessage());
+        TestLifecycleBus.publish(TestLifecycleEvent.TEST_SKIP, result);
     }
 }
\ No newline at end of file
@@ -1,7 +1,10 @@
 package com.hybridframework.pages;
 
 import com.hybridframework.base.BasePage;
+import com.hybridframework.drivers.NavigationManager;
+import com.hybridframework.utils.AuthStateCache;
 import org.openqa.selenium.By;
+import org.openqa.selenium.Keys;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 
@@ -90,6 +93,16 @@ public class LoginPage extends BasePage {
         clickElement(loginButtonLocator);
     }
     
+    /**
+     * Submit the login form by pressing Enter in the password field
+     */
+    public void submitWithEnterKey() {
+        logger.info("Submitting login form with Enter key");
+        waitForElementToBeVisible(passwordFieldLocator);
+        passwordField.sendKeys(Keys.ENTER);
+        NavigationManager.markDirty();
+    }
+    
     /**
      * Click new user button
      */
@@ -132,6 +145,7 @@ public class LoginPage extends BasePage {
         logger.info("Clearing username field");
         waitForElementToBeVisible(usernameFieldLocator);
         usernameField.clear();
+        NavigationManager.markDirty();
     }
     
     /**
@@ -141,6 +155,7 @@ public class LoginPage extends BasePage {
         logger.info("Clearing password field");
         waitForElementToBeVisible(passwordFieldLocator);
         passwordField.clear();
+        NavigationManager.markDirty();
     }
     
     /**
@@ -229,6 +244,27 @@ public class LoginPage extends BasePage {
         waitForSeconds(2); // Wait for page to load
     }
     
+    /**
+     * Sign in using a cached authenticated state, performing the UI login only
+     * when no valid state exists for the account
+     * @param username Username
+     * @param password Password
+     * @param targetUrl URL to open once signed in
+     */
+    public void loginWithCachedState(String username, String password, String targetUrl) {
+        logger.info("Signing in with cached state for username: " + username);
+        AuthStateCache.authenticate(username, targetUrl, () -> loginAndWait(username, password), this::isSignedIn);
+    }
+    
+    /**
+     * Check if the session is signed in, i.e. the login form is no longer offered
+     * @return True if signed in
+     */
+    public boolean isSignedIn() {
+        logger.info("Checking if session is signed in");
+        return !isElementDisplayed(loginButtonLocator);
+    }
+    
     /**
      * Verify login page elements
      * @return True if all elements are present
@@ -0,0 +1,331 @@
+package com.hybridframework.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hybridframework.constants.FrameworkConstants;
+import com.hybridframework.drivers.DriverManager;
+import com.hybridframework.drivers.NavigationManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Cache of authenticated session state per account and application origin so that only
+ * tests exercising the login flow pay the cost of a UI login. A restored state is used only
+ * if the caller's signed-in check passes on the target page; otherwise it is dropped and the
+ * UI login runs again.
+ */
+public class AuthStateCache {
+
+    private static final Logger logger = LogManager.getLogger(AuthStateCache.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final Map<String, StorageState> states = new ConcurrentHashMap<>();
+    private static final Map<String, Object> accountLocks = new ConcurrentHashMap<>();
+
+    private static final String READ_STORAGE_SCRIPT =
+            "var s = arguments[0] === 'local' ? window.localStorage : window.sessionStorage;"
+            + "var d = {};"
+            + "for (var i = 0; i < s.length; i++) { var k = s.key(i); d[k] = s.getItem(k); }"
+            + "return d;";
+
+    private static final String WRITE_STORAGE_SCRIPT =
+            "var s = arguments[0] === 'local' ? window.localStorage : window.sessionStorage;"
+            + "var d = arguments[1];"
+            + "for (var k in d) { s.setItem(k, d[k]); }";
+
+    /**
+     * Authenticate the current session as the given account. A cached state is injected
+     * when one is still valid, otherwise the UI login is performed once and captured.
+     * @param account Account key (usually the username)
+     * @param targetUrl URL to open once the session is authenticated
+     * @param uiLogin Action performing the UI login on the application login page
+     * @param signedIn Check on the target page that the session is signed in
+     */
+    public static void authenticate(String account, String targetUrl, Runnable uiLogin, BooleanSupplier signedIn) {
+        if (!ConfigReader.isAuthStateEnabled()) {
+            performUiLogin(account, targetUrl, uiLogin);
+            return;
+        }
+
+        // One lock per account and origin so parallel threads log the same account in only once
+        String key = getKey(account);
+        synchronized (accountLocks.computeIfAbsent(key, k -> new Object())) {
+            StorageState state = getValidState(account);
+            if (Objects.nonNull(state)) {
+                try {
+                    restore(state, targetUrl);
+                    if (signedIn.getAsBoolean()) {
+                        logger.info("Authenticated state restored for account: " + account);
+                        return;
+                    }
+                    logger.warn("Restored state is not signed in for account: " + account + ", falling back to UI login");
+                } catch (Exception e) {
+                    logger.warn("Failed to restore authenticated state for account: " + account + ", falling back to UI login", e);
+                }
+                invalidate(account);
+                // Do not let the rejected session cookies interfere with the UI login
+                DriverManager.getDriver().manage().deleteAllCookies();
+            }
+
+            performUiLogin(account, targetUrl, uiLogin);
+            save(key, capture(account));
+        }
+    }
+
+    /**
+     * Capture the authenticated state of the current session
+     * @param account Account key
+     * @return Captured storage state
+     */
+    public static StorageState capture(String account) {
+        WebDriver webDriver = DriverManager.getDriver();
+        JavascriptExecutor js = (JavascriptExecutor) webDriver;
+
+        StorageState state = new StorageState();
+        state.setAccount(account);
+        state.setOrigin(getOrigin(webDriver.getCurrentUrl()));
+        state.setCapturedAt(System.currentTimeMillis());
+
+        List<Map<String, Object>> cookies = new ArrayList<>();
+        for (Cookie cookie : webDriver.manage().getCookies()) {
+            cookies.add(toMap(cookie));
+        }
+        state.setCookies(cookies);
+        state.setLocalStorage(readStorage(js, "local"));
+        state.setSessionStorage(readStorage(js, "session"));
+
+        logger.info("Authenticated state captured for account: " + account + " (" + cookies.size() + " cookies)");
+        return state;
+    }
+
+    /**
+     * Inject a storage state into the current session and open the target URL
+     * @param state Storage state to inject
+     * @param targetUrl URL to open after injection
+     */
+    public static void restore(StorageState state, String targetUrl) {
+        WebDriver webDriver = DriverManager.getDriver();
+
+        // Cookies and storage can only be set for the document's own origin
+        if (!webDriver.getCurrentUrl().startsWith(state.getOrigin())) {
+            WebDriverUtils.navigateToUrl(state.getOrigin() + FrameworkConstants.AUTH_STATE_BOOTSTRAP_PATH);
+        }
+
+        for (Map<String, Object> cookie : state.getCookies()) {
+            webDriver.manage().addCookie(toCookie(cookie));
+        }
+
+        JavascriptExecutor js = (JavascriptExecutor) webDriver;
+        js.executeScript(WRITE_STORAGE_SCRIPT, "local", state.getLocalStorage());
+        js.executeScript(WRITE_STORAGE_SCRIPT, "session", state.getSessionStorage());
+        NavigationManager.markDirty();
+
+        WebDriverUtils.navigateToUrl(targetUrl);
+    }
+
+    /**
+     * Drop the cached state for an account on the configured application origin from memory and disk
+     * @param account Account key
+     */
+    public static void invalidate(String account) {
+        states.remove(getKey(account));
+        File stateFile = getStateFile(account);
+        if (stateFile.exists() && !stateFile.delete()) {
+            logger.warn("Failed to delete authenticated state file: " + stateFile.getPath());
+        }
+        logger.info("Authenticated state invalidated for account: " + account);
+    }
+
+    /**
+     * Get a cached state for the account if it has not expired
+     * @param account Account key
+     * @return Valid storage state or null
+     */
+    private static StorageState getValidState(String account) {
+        StorageState state = states.get(getKey(account));
+        if (Objects.isNull(state)) {
+            state = load(account);
+        }
+
+        if (Objects.nonNull(state) && isExpired(state)) {
+            logger.info("Authenticated state expired for account: " + account);
+            invalidate(account);
+            return null;
+        }
+        return state;
+    }
+
+    /**
+     * Check whether a state is past its TTL or holds an expired cookie
+     * @param state Storage state
+     * @return True if the state can no longer be used
+     */
+    private static boolean isExpired(StorageState state) {
+        long now = System.currentTimeMillis();
+        long ttl = TimeUnit.MINUTES.toMillis(ConfigReader.getAuthStateTtlMinutes());
+        if (now - state.getCapturedAt() > ttl) {
+            return true;
+        }
+
+        for (Map<String, Object> cookie : state.getCookies()) {
+            Object expiry = cookie.get("expiry");
+            if (expiry instanceof Number && ((Number) expiry).longValue() * 1000L <= now) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Perform the UI login on the application login page
+     * @param account Account key
+     * @param targetUrl URL to open after login
+     * @param uiLogin Login action
+     */
+    private static void performUiLogin(String account, String targetUrl, Runnable uiLogin) {
+        String loginUrl = ConfigReader.getApplicationUrl();
+        if (!loginUrl.equals(WebDriverUtils.getCurrentUrl())) {
+            WebDriverUtils.navigateToUrl(loginUrl);
+        }
+
+        logger.info("Performing UI login for account: " + account);
+        uiLogin.run();
+
+        if (Objects.nonNull(targetUrl) && !targetUrl.equals(WebDriverUtils.getCurrentUrl())) {
+            WebDriverUtils.navigateToUrl(targetUrl);
+        }
+    }
+
+    /**
+     * Persist a storage state to memory and disk
+     * @param key Cache key of the account and origin
+     * @param state Storage state
+     */
+    private static void save(String key, StorageState state) {
+        states.put(key, state);
+        JsonUtils.writeJsonFile(getStateFile(state.getAccount()).getPath(), state);
+    }
+
+    /**
+     * Load a storage state from disk
+     * @param account Account key
+     * @return Storage state or null if none is stored
+     */
+    private static StorageState load(String account) {
+        File stateFile = getStateFile(account);
+        if (!stateFile.exists()) {
+            return null;
+        }
+
+        try {
+            StorageState state = objectMapper.readValue(stateFile, StorageState.class);
+            states.put(getKey(account), state);
+            return state;
+        } catch (IOException e) {
+            logger.warn("Failed to read authenticated state file: " + stateFile.getPath(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Get the state file of an account on the configured application origin, so that
+     * environments sharing an account name never share session cookies
+     * @param account Account key
+     * @return State file
+     */
+    public static File getStateFile(String account) {
+        String fileName = getKey(account).replaceAll("[^A-Za-z0-9._-]", "_") + FrameworkConstants.JSON_EXTENSION;
+        return new File(ConfigReader.getAuthStatePath(), fileName);
+    }
+
+    /**
+     * Get the cache key of an account on the configured application origin
+     * @param account Account key
+     * @return Cache key
+     */
+    private static String getKey(String account) {
+        return account + "@" + getOrigin(ConfigReader.getApplicationUrl());
+    }
+
+    /**
+     * Read local or session storage as a map
+     * @param js JavaScript executor
+     * @param area Storage area ("local" or "session")
+     * @return Storage entries
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, String> readStorage(JavascriptExecutor js, String area) {
+        Object result = js.executeScript(READ_STORAGE_SCRIPT, area);
+        Map<String, String> entries = new HashMap<>();
+        if (result instanceof Map) {
+            ((Map<String, Object>) result).forEach((key, value) -> entries.put(key, String.valueOf(value)));
+        }
+        return entries;
+    }
+
+    /**
+     * Get origin (scheme, host and port) of a URL
+     * @param url URL
+     * @return Origin
+     */
+    private static String getOrigin(String url) {
+        URI uri = URI.create(url);
+        String port = uri.getPort() == -1 ? "" : ":" + uri.getPort();
+        return uri.getScheme() + "://" + uri.getHost() + port;
+    }
+
+    /**
+     * Convert cookie to serializable map
+     * @param cookie Selenium cookie
+     * @return Cookie attribute map
+     */
+    private static Map<String, Object> toMap(Cookie cookie) {
+        Map<String, Object> map = new HashMap<>();
+        map.put("name", cookie.getName());
+        map.put("value", cookie.getValue());
+        map.put("domain", cookie.getDomain());
+        map.put("path", cookie.getPath());
+        map.put("secure", cookie.isSecure());
+        map.put("httpOnly", cookie.isHttpOnly());
+        map.put("sameSite", cookie.getSameSite());
+        if (Objects.nonNull(cookie.getExpiry())) {
+            map.put("expiry", cookie.getExpiry().getTime() / 1000L);
+        }
+        return map;
+    }
+
+    /**
+     * Convert cookie attribute map to Selenium cookie
+     * @param map Cookie attribute map
+     * @return Selenium cookie
+     */
+    private static Cookie toCookie(Map<String, Object> map) {
+        Cookie.Builder builder = new Cookie.Builder((String) map.get("name"), (String) map.get("value"))
+                .domain((String) map.get("domain"))
+                .path((String) map.get("path"))
+                .isSecure(Boolean.TRUE.equals(map.get("secure")))
+                .isHttpOnly(Boolean.TRUE.equals(map.get("httpOnly")));
+
+        if (Objects.nonNull(map.get("sameSite"))) {
+            builder.sameSite((String) map.get("sameSite"));
+        }
+        if (map.get("expiry") instanceof Number) {
+            builder.expiresOn(new Date(((Number) map.get("expiry")).longValue() * 1000L));
+        }
+        return builder.build();
+    }
+}
\ No newline at end of file
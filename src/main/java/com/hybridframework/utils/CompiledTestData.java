@@ -0,0 +1,330 @@
+package com.hybridframework.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.hybridframework.constants.FrameworkConstants;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+
+/**
+ * Precompiled binary form of Excel and JSON test data. The first load of a sheet or data key
+ * writes a compact file (string pool with an offset index plus rows of pool ids) next to the
+ * build output, named after the source file and a hash of its absolute path; later loads read
+ * that file in one pass instead of parsing the source. Each compiled file records the source
+ * size, modification time and CRC32. Loads trust size and modification time; the CRC32 is only
+ * computed when those no longer match, to tell a touched source from a changed one, and a
+ * touched source gets its timestamp updated instead of a rebuild.
+ * Run {@link #main(String[])} to compile every data file ahead of a run.
+ */
+public class CompiledTestData {
+
+    private static final Logger logger = LogManager.getLogger(CompiledTestData.class);
+    private static final int MAGIC = 0x48544442;
+    private static final int VERSION = 1;
+    private static final int ABSENT = -1;
+
+    /**
+     * Load a data set from its compiled file, compiling it from the source if missing or stale
+     * @param source Excel or JSON source file
+     * @param dataKey Sheet name (Excel) or array key (JSON)
+     * @param parser Parses the source when a (re)compile is needed
+     * @return Test data table
+     */
+    public static TestDataTable load(File source, String dataKey, Supplier<TestDataTable> parser) {
+        if (!ConfigReader.isCompiledTestDataEnabled()) {
+            return parser.get();
+        }
+
+        File compiled = getCompiledFile(source, dataKey);
+        try {
+            if (compiled.exists()) {
+                TestDataTable table = read(compiled, source);
+                if (Objects.nonNull(table)) {
+                    return table;
+                }
+                logger.info("Compiled test data is stale, rebuilding: " + compiled.getPath());
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Failed to read compiled test data, rebuilding: " + compiled.getPath(), e);
+        }
+
+        TestDataTable table = parser.get();
+        try {
+            write(compiled, source, table);
+        } catch (IOException e) {
+            logger.warn("Failed to write compiled test data: " + compiled.getPath(), e);
+        }
+        return table;
+    }
+
+    /**
+     * Compile every sheet of the Excel files and every data array of the JSON files in a directory
+     * @param dataDirectory Test data directory
+     * @return Number of data sets compiled
+     */
+    public static int compileAll(String dataDirectory) {
+        File[] files = new File(dataDirectory).listFiles();
+        if (Objects.isNull(files)) {
+            logger.warn("Test data directory not found: " + dataDirectory);
+            return 0;
+        }
+
+        int count = 0;
+        for (File file : files) {
+            try {
+                for (String dataKey : getDataKeys(file)) {
+                    if (file.getName().endsWith(FrameworkConstants.EXCEL_EXTENSION)) {
+                        ExcelDataSource.getSheetTable(file.getPath(), dataKey);
+                    } else {
+                        JsonUtils.getTestDataTable(file.getPath(), dataKey);
+                    }
+                    count++;
+                }
+            } catch (Exception e) {
+                logger.error("Failed to compile test data file: " + file.getPath(), e);
+            }
+        }
+        logger.info("Compiled " + count + " test data sets from: " + dataDirectory);
+        return count;
+    }
+
+    /**
+     * Compile the test data directory ahead of a run
+     * @param args Optional test data directory, defaults to the configured test data path
+     */
+    public static void main(String[] args) {
+        String dataDirectory = args.length > 0 ? args[0] : ConfigReader.getTestDataPath();
+        System.out.println("Compiled " + compileAll(dataDirectory) + " test data sets from " + dataDirectory);
+    }
+
+    /**
+     * Get the compiled file location for a data set
+     * @param source Source file
+     * @param dataKey Sheet name or array key
+     * @return Compiled file
+     */
+    private static File getCompiledFile(File source, String dataKey) {
+        String safeKey = dataKey.replaceAll("[^A-Za-z0-9_-]", "_");
+        // Same-named sources in different directories must not share a compiled file
+        String pathHash = Integer.toHexString(source.getAbsoluteFile().toPath().normalize().toString().hashCode());
+        return new File(ConfigReader.getCompiledTestDataPath(),
+                source.getName() + "." + pathHash + "." + safeKey + FrameworkConstants.COMPILED_TEST_DATA_EXTENSION);
+    }
+
+    /**
+     * List the data sets contained in a source file
+     * @param file Source file
+     * @return Sheet names or top-level array keys
+     */
+    private static List<String> getDataKeys(File file) throws Exception {
+        List<String> keys = new ArrayList<>();
+        if (file.getName().endsWith(FrameworkConstants.EXCEL_EXTENSION)) {
+            try (OPCPackage pkg = OPCPackage.open(file, PackageAccess.READ)) {
+                XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) new XSSFReader(pkg).getSheetsData();
+                while (sheets.hasNext()) {
+                    sheets.next().close();
+                    keys.add(sheets.getSheetName());
+                }
+            }
+        } else if (file.getName().endsWith(FrameworkConstants.JSON_EXTENSION)) {
+            Iterator<Map.Entry<String, JsonNode>> fields = JsonUtils.readJsonFile(file.getPath()).fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                if (field.getValue().isArray()) {
+                    keys.add(field.getKey());
+                }
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Read a compiled file, every section of which is decoded into the table
+     * @param compiled Compiled file
+     * @param source Source file it was compiled from
+     * @return Test data table or null if the compiled file is stale
+     */
+    private static TestDataTable read(File compiled, File source) throws IOException {
+        byte[] content = Files.readAllBytes(compiled.toPath());
+        ByteBuffer buffer = ByteBuffer.wrap(content);
+
+        if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+            return null;
+        }
+        long sourceLength = buffer.getLong();
+        int modifiedPosition = buffer.position();
+        long sourceModified = buffer.getLong();
+        long sourceChecksum = buffer.getLong();
+        if (sourceLength != source.length()) {
+            return null;
+        }
+        if (sourceModified != source.lastModified()) {
+            // Recompile check: a touched but unchanged source only needs the new timestamp recorded
+            if (sourceChecksum != checksum(source)) {
+                return null;
+            }
+            buffer.putLong(modifiedPosition, source.lastModified());
+            replace(compiled, content);
+            logger.info("Source unchanged, updated timestamp of compiled test data: " + compiled.getPath());
+        }
+
+        int columnCount = buffer.getInt();
+        int[] headerIds = new int[columnCount];
+        for (int col = 0; col < columnCount; col++) {
+            headerIds[col] = buffer.getInt();
+        }
+        int rowCount = buffer.getInt();
+        int rowsStart = buffer.position();
+
+        buffer.position(rowsStart + rowCount * columnCount * Integer.BYTES);
+        String[] pool = readPool(buffer);
+
+        TestDataTable.Builder table = TestDataTable.builder();
+        for (int headerId : headerIds) {
+            table.addColumn(pool[headerId]);
+        }
+        buffer.position(rowsStart);
+        for (int row = 0; row < rowCount; row++) {
+            String[] values = new String[columnCount];
+            for (int col = 0; col < columnCount; col++) {
+                int id = buffer.getInt();
+                values[col] = id == ABSENT ? null : pool[id];
+            }
+            table.addRow(values);
+        }
+
+        logger.info("Loaded " + rowCount + " rows from compiled test data: " + compiled.getPath());
+        return table.build();
+    }
+
+    /**
+     * Decode the string pool using its offset index
+     * @param buffer Buffer positioned at the pool section
+     * @return Pool strings by id
+     */
+    private static String[] readPool(ByteBuffer buffer) {
+        int poolSize = buffer.getInt();
+        int[] offsets = new int[poolSize];
+        for (int id = 0; id < poolSize; id++) {
+            offsets[id] = buffer.getInt();
+        }
+        int dataStart = buffer.position();
+
+        String[] pool = new String[poolSize];
+        for (int id = 0; id < poolSize; id++) {
+            buffer.position(dataStart + offsets[id]);
+            byte[] bytes = new byte[buffer.getInt()];
+            buffer.get(bytes);
+            pool[id] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return pool;
+    }
+
+    /**
+     * Write a compiled file, replacing any previous one atomically
+     * @param compiled Compiled file
+     * @param source Source file the table was parsed from
+     * @param table Parsed table
+     */
+    private static void write(File compiled, File source, TestDataTable table) throws IOException {
+        Map<String, Integer> ids = new HashMap<>();
+        List<String> pool = new ArrayList<>();
+        List<String> headers = table.getHeaders();
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(source.length());
+            out.writeLong(source.lastModified());
+            out.writeLong(checksum(source));
+
+            out.writeInt(headers.size());
+            for (String header : headers) {
+                out.writeInt(poolId(header, ids, pool));
+            }
+            out.writeInt(table.size());
+            for (int row = 0; row < table.size(); row++) {
+                for (String header : headers) {
+                    String value = table.getValue(row, header);
+                    out.writeInt(Objects.isNull(value) ? ABSENT : poolId(value, ids, pool));
+                }
+            }
+
+            List<byte[]> encoded = new ArrayList<>(pool.size());
+            out.writeInt(pool.size());
+            int offset = 0;
+            for (String value : pool) {
+                byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+                encoded.add(utf8);
+                out.writeInt(offset);
+                offset += Integer.BYTES + utf8.length;
+            }
+            for (byte[] utf8 : encoded) {
+                out.writeInt(utf8.length);
+                out.write(utf8);
+            }
+        }
+
+        replace(compiled, bytes.toByteArray());
+        logger.info("Compiled " + table.size() + " rows to: " + compiled.getPath());
+    }
+
+    /**
+     * Replace a compiled file atomically
+     * @param compiled Compiled file
+     * @param content New content
+     */
+    private static void replace(File compiled, byte[] content) throws IOException {
+        Path target = compiled.toPath();
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), compiled.getName(), ".tmp");
+        Files.write(temp, content);
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static int poolId(String value, Map<String, Integer> ids, List<String> pool) {
+        Integer id = ids.get(value);
+        if (Objects.isNull(id)) {
+            id = pool.size();
+            ids.put(value, id);
+            pool.add(value);
+        }
+        return id;
+    }
+
+    /**
+     * CRC32 of a file's content, read through a memory-mapped channel
+     * @param file File
+     * @return Checksum
+     */
+    private static long checksum(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            CRC32 crc = new CRC32();
+            crc.update(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+            return crc.getValue();
+        }
+    }
+}
\ No newline at end of file
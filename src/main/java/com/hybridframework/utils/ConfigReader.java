@@ -6,18 +6,26 @@ import org.apache.logging.log4j.Logger;
 
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Properties;
 
 /**
- * Utility class for reading configuration properties
+ * Utility class for reading configuration properties. Values are served from an immutable
+ * {@link ConfigSnapshot} built once at startup and rebuilt once when the TestNG suite
+ * parameters become known.
  */
 public class ConfigReader {
     
     private static final Logger logger = LogManager.getLogger(ConfigReader.class);
-    private static Properties properties = new Properties();
+    private static final Properties properties = new Properties();
+    private static volatile ConfigSnapshot snapshot;
     
     static {
         loadProperties();
+        snapshot = ConfigSnapshot.build(properties, Collections.emptyMap());
     }
     
     /**
@@ -33,13 +41,30 @@ public class ConfigReader {
         }
     }
     
+    /**
+     * Rebuild the configuration snapshot with TestNG suite parameters as an override layer
+     * @param suiteParameters TestNG suite parameters
+     */
+    public static void applySuiteParameters(Map<String, String> suiteParameters) {
+        snapshot = ConfigSnapshot.build(properties, suiteParameters);
+        logger.info("Configuration snapshot rebuilt with suite parameters: " + suiteParameters.keySet());
+    }
+    
+    /**
+     * Get current configuration snapshot
+     * @return Configuration snapshot
+     */
+    public static ConfigSnapshot getSnapshot() {
+        return snapshot;
+    }
+    
     /**
      * Get property value by key
      * @param key Property key
      * @return Property value
      */
     public static String getProperty(String key) {
-        String value = properties.getProperty(key);
+        String value = snapshot.get(key);
         if (value == null) {
             logger.warn("Property not found: " + key);
         }
@@ -53,11 +78,8 @@ public class ConfigReader {
      * @return Property value or default value
      */
     public static String getProperty(String key, String defaultValue) {
-        String value = properties.getProperty(key, defaultValue);
-        if (value.equals(defaultValue)) {
-            logger.warn("Property not found, using default value: " + key + " = " + defaultValue);
-        }
-        return value;
+        String value = snapshot.get(key);
+        return Objects.nonNull(value) ? value : defaultValue;
     }
     
     /**
@@ -65,7 +87,15 @@ public class ConfigReader {
      * @return Browser name
      */
     public static String getBrowser() {
-        return getProperty("browser", FrameworkConstants.CHROME);
+        return snapshot.getBrowser();
+    }
+    
+    /**
+     * Get environment name from configuration
+     * @return Environment name
+     */
+    public static String getEnvironment() {
+        return snapshot.getEnvironment();
     }
     
     /**
@@ -73,8 +103,7 @@ public class ConfigReader {
      * @return Application URL
      */
     public static String getApplicationUrl() {
-        String environment = getProperty("environment", FrameworkConstants.QA);
-        return getProperty(environment + ".url", getProperty("app.url"));
+        return snapshot.getApplicationUrl();
     }
     
     /**
@@ -82,8 +111,7 @@ public class ConfigReader {
      * @return Implicit wait timeout
      */
     public static int getImplicitWait() {
-        String timeout = getProperty("implicit.wait", String.valueOf(FrameworkConstants.IMPLICIT_WAIT));
-        return Integer.parseInt(timeout);
+        return snapshot.getImplicitWait();
     }
     
     /**
@@ -91,8 +119,7 @@ public class ConfigReader {
      * @return Explicit wait timeout
      */
     public static int getExplicitWait() {
-        String timeout = getProperty("explicit.wait", String.valueOf(FrameworkConstants.EXPLICIT_WAIT));
-        return Integer.parseInt(timeout);
+        return snapshot.getExplicitWait();
     }
     
     /**
@@ -100,8 +127,7 @@ public class ConfigReader {
      * @return Page load timeout
      */
     public static int getPageLoadTimeout() {
-        String timeout = getProperty("page.load.timeout", String.valueOf(FrameworkConstants.PAGE_LOAD_TIMEOUT));
-        return Integer.parseInt(timeout);
+        return snapshot.getPageLoadTimeout();
     }
     
     /**
@@ -109,7 +135,7 @@ public class ConfigReader {
      * @return True if headless mode is enabled
      */
     public static boolean isHeadless() {
-        return Boolean.parseBoolean(getProperty("headless", "false"));
+        return snapshot.isHeadless();
     }
     
     /**
@@ -117,7 +143,7 @@ public class ConfigReader {
      * @return True if maximize is enabled
      */
     public static boolean isMaximize() {
-        return Boolean.parseBoolean(getProperty("maximize", "true"));
+        return snapshot.isMaximize();
     }
     
     /**
@@ -125,7 +151,7 @@ public class ConfigReader {
      * @return True if screenshot on pass is enabled
      */
     public static boolean isScreenshotOnPass() {
-        return Boolean.parseBoolean(getProperty("screenshot.on.pass", "false"));
+        return snapshot.isScreenshotOnPass();
     }
     
     /**
@@ -133,7 +159,7 @@ public class ConfigReader {
      * @return True if screenshot on fail is enabled
      */
     public static boolean isScreenshotOnFail() {
-        return Boolean.parseBoolean(getProperty("screenshot.on.fail", "true"));
+        return snapshot.isScreenshotOnFail();
     }
     
     /**
@@ -141,8 +167,7 @@ public class ConfigReader {
      * @return Retry count
      */
     public static int getRetryCount() {
-        String retryCount = getProperty("retry.count", "1");
-        return Integer.parseInt(retryCount);
+        return snapshot.getRetryCount();
     }
     
     /**
@@ -150,7 +175,7 @@ public class ConfigReader {
      * @return True if parallel execution is enabled
      */
     public static boolean isParallelExecution() {
-        return Boolean.parseBoolean(getProperty("parallel.execution", "false"));
+        return snapshot.isParallelExecution();
     }
     
     /**
@@ -158,8 +183,7 @@ public class ConfigReader {
      * @return Thread count
      */
     public static int getThreadCount() {
-        String threadCount = getProperty("thread.count", "2");
-        return Integer.parseInt(threadCount);
+        return snapshot.getThreadCount();
     }
     
     /**
@@ -167,7 +191,7 @@ public class ConfigReader {
      * @return Test data path
      */
     public static String getTestDataPath() {
-        return getProperty("test.data.path", FrameworkConstants.TEST_DATA_PATH);
+        return snapshot.getTestDataPath();
     }
     
     /**
@@ -175,7 +199,31 @@ public class ConfigReader {
      * @return Excel test data file name
      */
     public static String getExcelTestData() {
-        return getProperty("excel.test.data", FrameworkConstants.EXCEL_TEST_DATA);
+        return snapshot.getExcelTestData();
+    }
+    
+    /**
+     * Check if precompiled binary test data is enabled
+     * @return True if enabled
+     */
+    public static boolean isCompiledTestDataEnabled() {
+        return snapshot.isCompiledTestDataEnabled();
+    }
+    
+    /**
+     * Get directory for precompiled binary test data
+     * @return Compiled test data path
+     */
+    public static String getCompiledTestDataPath() {
+        return snapshot.getCompiledTestDataPath();
+    }
+    
+    /**
+     * Get interval between background Excel result flushes
+     * @return Flush interval in seconds
+     */
+    public static int getExcelResultsFlushIntervalSeconds() {
+        return snapshot.getExcelResultsFlushIntervalSeconds();
     }
     
     /**
@@ -183,7 +231,63 @@ public class ConfigReader {
      * @return Screenshot path
      */
     public static String getScreenshotPath() {
-        return getProperty("screenshot.path", FrameworkConstants.SCREENSHOTS_PATH);
+        return snapshot.getScreenshotPath();
+    }
+    
+    /**
+     * Get number of background screenshot writer threads
+     * @return Screenshot writer threads
+     */
+    public static int getScreenshotWriterThreads() {
+        return snapshot.getScreenshotWriterThreads();
+    }
+    
+    /**
+     * Get maximum number of screenshots waiting to be written
+     * @return Screenshot queue capacity
+     */
+    public static int getScreenshotQueueCapacity() {
+        return snapshot.getScreenshotQueueCapacity();
+    }
+    
+    /**
+     * Check if screenshots are stored under a hash of their content
+     * @return True if content-addressed screenshot storage is enabled
+     */
+    public static boolean isScreenshotHashedStorage() {
+        return snapshot.isScreenshotHashedStorage();
+    }
+    
+    /**
+     * Get image format stored screenshots are encoded in
+     * @return Screenshot format, e.g. png or jpg
+     */
+    public static String getScreenshotFormat() {
+        return snapshot.getScreenshotFormat();
+    }
+    
+    /**
+     * Get maximum width of stored screenshots
+     * @return Maximum width in pixels, 0 to keep the captured size
+     */
+    public static int getScreenshotMaxWidth() {
+        return snapshot.getScreenshotMaxWidth();
+    }
+    
+    /**
+     * Get maximum perceptual hash distance at which a screenshot reuses a stored one
+     * @return Hamming distance in bits, negative to disable perceptual deduplication
+     */
+    public static int getScreenshotDedupDistance() {
+        return snapshot.getScreenshotDedupDistance();
+    }
+    
+    /**
+     * Get number of days unused screenshots are kept
+     * @return Retention in days, 0 to keep screenshots forever
+     */
+    public static int getScreenshotRetentionDays() {
+        return snapshot.getScreenshotRetentionDays();
     }
     
     /**
@@ -191,7 +295,7 @@ public class ConfigReader {
      * @return Extent report path
      */
     public static String getExtentReportPath() {
-        return getProperty("extent.report.path", FrameworkConstants.EXTENT_REPORT_PATH);
+        return snapshot.getExtentReportPath();
     }
     
     /**
@@ -199,7 +303,7 @@ public class ConfigReader {
      * @return Extent report title
      */
     public static String getExtentReportTitle() {
-        return getProperty("extent.report.title", FrameworkConstants.EXTENT_REPORT_TITLE);
+        return snapshot.getExtentReportTitle();
     }
     
     /**
@@ -207,6 +311,256 @@ public class ConfigReader {
      * @return Extent report name
      */
     public static String getExtentReportName() {
-        return getProperty("extent.report.name", FrameworkConstants.EXTENT_REPORT_NAME);
+        return snapshot.getExtentReportName();
+    }
+    
+    /**
+     * Check if report events are applied asynchronously
+     * @return True if asynchronous reporting is enabled
+     */
+    public static boolean isReportAsync() {
+        return snapshot.isReportAsync();
+    }
+    
+    /**
+     * Get maximum number of pending asynchronous report events
+     * @return Report queue capacity
+     */
+    public static int getReportQueueCapacity() {
+        return snapshot.getReportQueueCapacity();
+    }
+    
+    /**
+     * Check if completed tests are flushed incrementally to the report store
+     * @return True if incremental reporting is enabled
+     */
+    public static boolean isReportIncremental() {
+        return snapshot.isReportIncremental();
+    }
+    
+    /**
+     * Get report store directory
+     * @return Report store path
+     */
+    public static String getReportStorePath() {
+        return snapshot.getReportStorePath();
+    }
+    
+    /**
+     * Get interval between background report store flushes
+     * @return Flush interval in seconds
+     */
+    public static int getReportFlushIntervalSeconds() {
+        return snapshot.getReportFlushIntervalSeconds();
+    }
+    
+    /**
+     * Check if this process writes its test lifecycle events to an event log
+     * @return True if the event log is enabled
+     */
+    public static boolean isEventLogEnabled() {
+        return snapshot.isEventLogEnabled();
+    }
+    
+    /**
+     * Get directory of the per-process event logs
+     * @return Event log path
+     */
+    public static String getEventLogPath() {
+        return snapshot.getEventLogPath();
+    }
+    
+    /**
+     * Check if test wall time is broken down into phases
+     * @return True if phase timing is enabled
+     */
+    public static boolean isPhaseTimingEnabled() {
+        return snapshot.isPhaseTimingEnabled();
+    }
+    
+    /**
+     * Get directory of the per-run phase timing exports
+     * @return Phase timing path
+     */
+    public static String getPhaseTimingPath() {
+        return snapshot.getPhaseTimingPath();
+    }
+    
+    /**
+     * Get number of runs compared in the phase timing trend view
+     * @return Number of runs
+     */
+    public static int getPhaseTimingTrendRuns() {
+        return snapshot.getPhaseTimingTrendRuns();
+    }
+    
+    /**
+     * Check if exported phase timing runs are appended to the result history
+     * @return True if the result history is enabled
+     */
+    public static boolean isHistoryEnabled() {
+        return snapshot.isHistoryEnabled();
+    }
+    
+    /**
+     * Get directory of the result history store
+     * @return History path
+     */
+    public static String getHistoryPath() {
+        return snapshot.getHistoryPath();
+    }
+    
+    /**
+     * Get number of previous runs a test's duration is compared against
+     * @return Number of baseline runs
+     */
+    public static int getHistoryBaselineRuns() {
+        return snapshot.getHistoryBaselineRuns();
+    }
+    
+    /**
+     * Get allowed duration increase over the baseline median before a test is flagged
+     * @return Threshold in percent
+     */
+    public static int getHistoryRegressionThresholdPercent() {
+        return snapshot.getHistoryRegressionThresholdPercent();
+    }
+    
+    /**
+     * Get minimum duration increase for a test to be flagged
+     * @return Minimum increase in milliseconds
+     */
+    public static int getHistoryRegressionMinimumMs() {
+        return snapshot.getHistoryRegressionMinimumMs();
+    }
+    
+    /**
+     * Check if WebDriver commands are recorded for failure reports
+     * @return True if the flight recorder is enabled
+     */
+    public static boolean isFlightRecorderEnabled() {
+        return snapshot.isFlightRecorderEnabled();
+    }
+    
+    /**
+     * Get number of most recent WebDriver commands kept per test thread
+     * @return Flight recorder size
+     */
+    public static int getFlightRecorderSize() {
+        return snapshot.getFlightRecorderSize();
+    }
+    
+    /**
+     * Get number of most recent browser console entries added to a failure report
+     * @return Number of console entries
+     */
+    public static int getFlightRecorderConsoleEntries() {
+        return snapshot.getFlightRecorderConsoleEntries();
+    }
+    
+    /**
+     * Check if authenticated state caching is enabled
+     * @return True if authenticated state caching is enabled
+     */
+    public static boolean isAuthStateEnabled() {
+        return snapshot.isAuthStateEnabled();
+    }
+    
+    /**
+     * Get authenticated state storage path
+     * @return Authenticated state storage path
+     */
+    public static String getAuthStatePath() {
+        return snapshot.getAuthStatePath();
+    }
+    
+    /**
+     * Get authenticated state time-to-live in minutes
+     * @return Authenticated state TTL in minutes
+     */
+    public static int getAuthStateTtlMinutes() {
+        return snapshot.getAuthStateTtlMinutes();
+    }
+    
+    /**
+     * Check if the browser session should be reused across test methods
+     * @return True if session reuse is enabled
+     */
+    public static boolean isSessionReuse() {
+        return snapshot.isSessionReuse();
+    }
+    
+    /**
+     * Check if navigation to the URL the session is already on should be skipped. Only applies
+     * to sessions kept between tests (browser.session.reuse or a SessionBatch method).
+     * @return True if redundant navigation is skipped
+     */
+    public static boolean isSkipRedundantNavigation() {
+        return snapshot.isSkipRedundantNavigation();
+    }
+    
+    /**
+     * Check if the next test's start URL should be preloaded
+     * @return True if preloading is enabled
+     */
+    public static boolean isPreloadNextUrl() {
+        return snapshot.isPreloadNextUrl();
+    }
+    
+    /**
+     * Check if fail-fast gating is enabled
+     * @return True if gating is enabled
+     */
+    public static boolean isGatingEnabled() {
+        return snapshot.isGatingEnabled();
+    }
+    
+    /**
+     * Get gate groups whose failure skips their dependent groups
+     * @return List of gate groups
+     */
+    public static List<String> getGateGroups() {
+        return snapshot.getGateGroups();
+    }
+    
+    /**
+     * Get groups depending on a gate group
+     * @param gateGroup Gate group
+     * @return List of dependent groups
+     */
+    public static List<String> getGateDependents(String gateGroup) {
+        return snapshot.getGateDependents(gateGroup);
+    }
+    
+    /**
+     * Check if the pre-flight environment probe is enabled
+     * @return True if the pre-flight probe is enabled
+     */
+    public static boolean isPreflightEnabled() {
+        return snapshot.isPreflightEnabled();
+    }
+    
+    /**
+     * Get pre-flight probe timeout per request in milliseconds
+     * @return Pre-flight timeout in milliseconds
+     */
+    public static int getPreflightTimeoutMillis() {
+        return snapshot.getPreflightTimeoutMillis();
+    }
+    
+    /**
+     * Get key assets checked by the pre-flight probe, relative to the application URL
+     * @return List of asset paths or URLs
+     */
+    public static List<String> getPreflightAssets() {
+        return snapshot.getPreflightAssets();
+    }
+    
+    /**
+     * Get number of consecutive navigation failures that opens the circuit breaker
+     * @return Circuit breaker threshold
+     */
+    public static int getCircuitBreakerThreshold() {
+        return snapshot.getCircuitBreakerThreshold();
     }
 }
\ No newline at end of file
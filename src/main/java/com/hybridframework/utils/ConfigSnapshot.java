@@ -0,0 +1,532 @@
+package com.hybridframework.utils;
+
+import com.hybridframework.constants.FrameworkConstants;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+
+/**
+ * Immutable, typed view of the framework configuration, built once and read through plain
+ * field access. Each key is resolved with the precedence: system properties, environment
+ * variables with the HF_ prefix (e.g. HF_PAGE_LOAD_TIMEOUT for page.load.timeout), TestNG
+ * suite parameters and finally config.properties. The prefix keeps unrelated variables such
+ * as BROWSER or ENVIRONMENT set by the CI host from changing the run.
+ */
+public final class ConfigSnapshot {
+
+    private static final String ENV_PREFIX = "HF_";
+
+    private final Map<String, String> values;
+
+    private final String browser;
+    private final boolean headless;
+    private final boolean maximize;
+    private final int implicitWait;
+    private final int explicitWait;
+    private final int pageLoadTimeout;
+    private final String environment;
+    private final String applicationUrl;
+    private final boolean screenshotOnPass;
+    private final boolean screenshotOnFail;
+    private final int retryCount;
+    private final boolean parallelExecution;
+    private final int threadCount;
+    private final String testDataPath;
+    private final String excelTestData;
+    private final boolean compiledTestDataEnabled;
+    private final String compiledTestDataPath;
+    private final int excelResultsFlushIntervalSeconds;
+    private final String screenshotPath;
+    private final int screenshotWriterThreads;
+    private final int screenshotQueueCapacity;
+    private final boolean screenshotHashedStorage;
+    private final String screenshotFormat;
+    private final int screenshotMaxWidth;
+    private final int screenshotDedupDistance;
+    private final int screenshotRetentionDays;
+    private final String extentReportPath;
+    private final String extentReportTitle;
+    private final String extentReportName;
+    private final boolean reportAsync;
+    private final int reportQueueCapacity;
+    private final boolean reportIncremental;
+    private final String reportStorePath;
+    private final int reportFlushIntervalSeconds;
+    private final boolean eventLogEnabled;
+    private final String eventLogPath;
+    private final boolean phaseTimingEnabled;
+    private final String phaseTimingPath;
+    private final int phaseTimingTrendRuns;
+    private final boolean historyEnabled;
+    private final String historyPath;
+    private final int historyBaselineRuns;
+    private final int historyRegressionThresholdPercent;
+    private final int historyRegressionMinimumMs;
+    private final boolean flightRecorderEnabled;
+    private final int flightRecorderSize;
+    private final int flightRecorderConsoleEntries;
+    private final boolean authStateEnabled;
+    private final String authStatePath;
+    private final int authStateTtlMinutes;
+    private final boolean sessionReuse;
+    private final boolean skipRedundantNavigation;
+    private final boolean preloadNextUrl;
+    private final boolean gatingEnabled;
+    private final List<String> gateGroups;
+    private final Map<String, List<String>> gateDependents;
+    private final boolean preflightEnabled;
+    private final int preflightTimeoutMillis;
+    private final List<String> preflightAssets;
+    private final int circuitBreakerThreshold;
+
+    private ConfigSnapshot(Properties fileProperties, Map<String, String> suiteParameters) {
+        Map<String, String> resolved = new HashMap<>();
+        for (String key : fileProperties.stringPropertyNames()) {
+            resolved.put(key, fileProperties.getProperty(key));
+        }
+        resolved.putAll(suiteParameters);
+        for (String key : new ArrayList<>(resolved.keySet())) {
+            String override = lookupOverride(key);
+            if (Objects.nonNull(override)) {
+                resolved.put(key, override);
+            }
+        }
+        this.values = Collections.unmodifiableMap(resolved);
+
+        this.browser = getString("browser", FrameworkConstants.CHROME);
+        this.headless = getBoolean("headless", false);
+        this.maximize = getBoolean("maximize", true);
+        this.implicitWait = getInt("implicit.wait", FrameworkConstants.IMPLICIT_WAIT);
+        this.explicitWait = getInt("explicit.wait", FrameworkConstants.EXPLICIT_WAIT);
+        this.pageLoadTimeout = getInt("page.load.timeout", FrameworkConstants.PAGE_LOAD_TIMEOUT);
+        this.environment = getString("environment", FrameworkConstants.QA);
+        this.applicationUrl = getString(environment + ".url", getString("app.url", null));
+        this.screenshotOnPass = getBoolean("screenshot.on.pass", false);
+        this.screenshotOnFail = getBoolean("screenshot.on.fail", true);
+        this.retryCount = getInt("retry.count", 1);
+        this.parallelExecution = getBoolean("parallel.execution", false);
+        this.threadCount = getInt("thread.count", 2);
+        this.testDataPath = getString("test.data.path", FrameworkConstants.TEST_DATA_PATH);
+        this.excelTestData = getString("excel.test.data", FrameworkConstants.EXCEL_TEST_DATA);
+        this.compiledTestDataEnabled = getBoolean("test.data.compiled", false);
+        this.compiledTestDataPath = getString("test.data.compiled.path", FrameworkConstants.COMPILED_TEST_DATA_PATH);
+        this.excelResultsFlushIntervalSeconds = getInt("excel.results.flush.interval.seconds", FrameworkConstants.EXCEL_RESULTS_FLUSH_INTERVAL_SECONDS);
+        this.screenshotPath = getString("screenshot.path", FrameworkConstants.SCREENSHOTS_PATH);
+        this.screenshotWriterThreads = getInt("screenshot.writer.threads", FrameworkConstants.SCREENSHOT_WRITER_THREADS);
+        this.screenshotQueueCapacity = getInt("screenshot.queue.capacity", FrameworkConstants.SCREENSHOT_QUEUE_CAPACITY);
+        this.screenshotHashedStorage = getBoolean("screenshot.hashed.storage", true);
+        this.screenshotFormat = getString("screenshot.format", FrameworkConstants.SCREENSHOT_FORMAT);
+        this.screenshotMaxWidth = getInt("screenshot.max.width", 0);
+        this.screenshotDedupDistance = getInt("screenshot.dedup.distance", -1);
+        this.screenshotRetentionDays = getInt("screenshot.retention.days", FrameworkConstants.SCREENSHOT_RETENTION_DAYS);
+        this.extentReportPath = getString("extent.report.path", FrameworkConstants.EXTENT_REPORT_PATH);
+        this.extentReportTitle = getString("extent.report.title", FrameworkConstants.EXTENT_REPORT_TITLE);
+        this.extentReportName = getString("extent.report.name", FrameworkConstants.EXTENT_REPORT_NAME);
+        this.reportAsync = getBoolean("report.async", false);
+        this.reportQueueCapacity = getInt("report.queue.capacity", FrameworkConstants.REPORT_QUEUE_CAPACITY);
+        this.reportIncremental = getBoolean("report.incremental", false);
+        this.reportStorePath = getString("report.store.path", FrameworkConstants.REPORT_STORE_PATH);
+        this.reportFlushIntervalSeconds = getInt("report.flush.interval.seconds", FrameworkConstants.REPORT_FLUSH_INTERVAL_SECONDS);
+        this.eventLogEnabled = getBoolean("event.log.enabled", true);
+        this.eventLogPath = getString("event.log.path", FrameworkConstants.EVENT_LOG_PATH);
+        this.phaseTimingEnabled = getBoolean("phase.timing.enabled", true);
+        this.phaseTimingPath = getString("phase.timing.path", FrameworkConstants.PHASE_TIMING_PATH);
+        this.phaseTimingTrendRuns = getInt("phase.timing.trend.runs", FrameworkConstants.PHASE_TIMING_TREND_RUNS);
+        this.historyEnabled = getBoolean("history.enabled", true);
+        this.historyPath = getString("history.path", FrameworkConstants.HISTORY_PATH);
+        this.historyBaselineRuns = getInt("history.baseline.runs", FrameworkConstants.HISTORY_BASELINE_RUNS);
+        this.historyRegressionThresholdPercent = getInt("history.regression.threshold.percent", FrameworkConstants.HISTORY_REGRESSION_THRESHOLD_PERCENT);
+        this.historyRegressionMinimumMs = getInt("history.regression.minimum.ms", FrameworkConstants.HISTORY_REGRESSION_MINIMUM_MS);
+        this.flightRecorderEnabled = getBoolean("flight.recorder.enabled", true);
+        this.flightRecorderSize = getInt("flight.recorder.size", FrameworkConstants.FLIGHT_RECORDER_SIZE);
+        this.flightRecorderConsoleEntries = getInt("flight.recorder.console.entries", FrameworkConstants.FLIGHT_RECORDER_CONSOLE_ENTRIES);
+        this.authStateEnabled = getBoolean("auth.state.enabled", true);
+        this.authStatePath = getString("auth.state.path", FrameworkConstants.AUTH_STATE_PATH);
+        this.authStateTtlMinutes = getInt("auth.state.ttl.minutes", FrameworkConstants.AUTH_STATE_TTL_MINUTES);
+        this.sessionReuse = getBoolean("browser.session.reuse", false);
+        this.skipRedundantNavigation = getBoolean("navigation.skip.redundant", true);
+        this.preloadNextUrl = getBoolean("navigation.preload.next", true);
+        this.gatingEnabled = getBoolean("gating.enabled", false);
+        this.gateGroups = getList("gate.groups");
+        Map<String, List<String>> dependents = new HashMap<>();
+        for (String gateGroup : gateGroups) {
+            dependents.put(gateGroup, getList("gate." + gateGroup + ".dependents"));
+        }
+        this.gateDependents = Collections.unmodifiableMap(dependents);
+        this.preflightEnabled = getBoolean("preflight.enabled", false);
+        this.preflightTimeoutMillis = getInt("preflight.timeout.ms", FrameworkConstants.PREFLIGHT_TIMEOUT_MILLIS);
+        this.preflightAssets = getList("preflight.assets");
+        this.circuitBreakerThreshold = getInt("circuit.breaker.threshold", FrameworkConstants.CIRCUIT_BREAKER_THRESHOLD);
+    }
+
+    /**
+     * Build a snapshot from the configuration file and TestNG suite parameters
+     * @param fileProperties Properties loaded from config.properties
+     * @param suiteParameters TestNG suite parameters
+     * @return Configuration snapshot
+     */
+    public static ConfigSnapshot build(Properties fileProperties, Map<String, String> suiteParameters) {
+        return new ConfigSnapshot(fileProperties, suiteParameters);
+    }
+
+    /**
+     * Get raw property value, resolved with the same precedence as the typed values
+     * @param key Property key
+     * @return Property value or null if not defined in any layer
+     */
+    public String get(String key) {
+        String value = values.get(key);
+        return Objects.nonNull(value) ? value : lookupOverride(key);
+    }
+
+    /**
+     * Look up a key in system properties, then HF_ prefixed environment variables
+     * @param key Property key
+     * @return Override value or null
+     */
+    private static String lookupOverride(String key) {
+        String value = System.getProperty(key);
+        if (Objects.isNull(value)) {
+            value = System.getenv(ENV_PREFIX + key.toUpperCase().replace('.', '_'));
+        }
+        return value;
+    }
+
+    private String getString(String key, String defaultValue) {
+        String value = get(key);
+        return Objects.nonNull(value) ? value : defaultValue;
+    }
+
+    private boolean getBoolean(String key, boolean defaultValue) {
+        String value = get(key);
+        return Objects.nonNull(value) ? Boolean.parseBoolean(value.trim()) : defaultValue;
+    }
+
+    private int getInt(String key, int defaultValue) {
+        String value = get(key);
+        return Objects.nonNull(value) && !value.trim().isEmpty() ? Integer.parseInt(value.trim()) : defaultValue;
+    }
+
+    private List<String> getList(String key) {
+        List<String> items = new ArrayList<>();
+        String value = get(key);
+        if (Objects.nonNull(value)) {
+            for (String item : value.split(",")) {
+                if (!item.trim().isEmpty()) {
+                    items.add(item.trim());
+                }
+            }
+        }
+        return Collections.unmodifiableList(items);
+    }
+
+    /** Get browser name from configuration */
+    public String getBrowser() {
+        return browser;
+    }
+
+    /** Check if browser should run in headless mode */
+    public boolean isHeadless() {
+        return headless;
+    }
+
+    /** Check if browser should be maximized */
+    public boolean isMaximize() {
+        return maximize;
+    }
+
+    /** Get implicit wait timeout from configuration */
+    public int getImplicitWait() {
+        return implicitWait;
+    }
+
+    /** Get explicit wait timeout from configuration */
+    public int getExplicitWait() {
+        return explicitWait;
+    }
+
+    /** Get page load timeout from configuration */
+    public int getPageLoadTimeout() {
+        return pageLoadTimeout;
+    }
+
+    /** Get environment name from configuration */
+    public String getEnvironment() {
+        return environment;
+    }
+
+    /** Get application URL from configuration */
+    public String getApplicationUrl() {
+        return applicationUrl;
+    }
+
+    /** Check if screenshot should be taken on pass */
+    public boolean isScreenshotOnPass() {
+        return screenshotOnPass;
+    }
+
+    /** Check if screenshot should be taken on fail */
+    public boolean isScreenshotOnFail() {
+        return screenshotOnFail;
+    }
+
+    /** Get retry count for failed tests */
+    public int getRetryCount() {
+        return retryCount;
+    }
+
+    /** Check if parallel execution is enabled */
+    public boolean isParallelExecution() {
+        return parallelExecution;
+    }
+
+    /** Get thread count for parallel execution */
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    /** Get test data path */
+    public String getTestDataPath() {
+        return testDataPath;
+    }
+
+    /** Get Excel test data file name */
+    public String getExcelTestData() {
+        return excelTestData;
+    }
+
+    /** Check if precompiled binary test data is enabled */
+    public boolean isCompiledTestDataEnabled() {
+        return compiledTestDataEnabled;
+    }
+
+    /** Get directory for precompiled binary test data */
+    public String getCompiledTestDataPath() {
+        return compiledTestDataPath;
+    }
+
+    /** Get interval between background Excel result flushes */
+    public int getExcelResultsFlushIntervalSeconds() {
+        return excelResultsFlushIntervalSeconds;
+    }
+
+    /** Get screenshot path */
+    public String getScreenshotPath() {
+        return screenshotPath;
+    }
+
+    /** Get number of background screenshot writer threads */
+    public int getScreenshotWriterThreads() {
+        return screenshotWriterThreads;
+    }
+
+    /** Get maximum number of screenshots waiting to be written */
+    public int getScreenshotQueueCapacity() {
+        return screenshotQueueCapacity;
+    }
+
+    /** Check if screenshots are stored under a hash of their content */
+    public boolean isScreenshotHashedStorage() {
+        return screenshotHashedStorage;
+    }
+
+    /** Get image format stored screenshots are encoded in */
+    public String getScreenshotFormat() {
+        return screenshotFormat;
+    }
+
+    /** Get maximum width of stored screenshots */
+    public int getScreenshotMaxWidth() {
+        return screenshotMaxWidth;
+    }
+
+    /** Get maximum perceptual hash distance at which a screenshot reuses a stored one */
+    public int getScreenshotDedupDistance() {
+        return screenshotDedupDistance;
+    }
+
+    /** Get number of days unused screenshots are kept */
+    public int getScreenshotRetentionDays() {
+        return screenshotRetentionDays;
+    }
+
+    /** Get extent report path */
+    public String getExtentReportPath() {
+        return extentReportPath;
+    }
+
+    /** Get extent report title */
+    public String getExtentReportTitle() {
+        return extentReportTitle;
+    }
+
+    /** Get extent report name */
+    public String getExtentReportName() {
+        return extentReportName;
+    }
+
+    /** Check if report events are applied asynchronously */
+    public boolean isReportAsync() {
+        return reportAsync;
+    }
+
+    /** Get maximum number of pending asynchronous report events */
+    public int getReportQueueCapacity() {
+        return reportQueueCapacity;
+    }
+
+    /** Check if completed tests are flushed incrementally to the report store */
+    public boolean isReportIncremental() {
+        return reportIncremental;
+    }
+
+    /** Get report store directory */
+    public String getReportStorePath() {
+        return reportStorePath;
+    }
+
+    /** Get interval between background report store flushes */
+    public int getReportFlushIntervalSeconds() {
+        return reportFlushIntervalSeconds;
+    }
+
+    /** Check if this process writes its test lifecycle events to an event log */
+    public boolean isEventLogEnabled() {
+        return eventLogEnabled;
+    }
+
+    /** Get directory of the per-process event logs */
+    public String getEventLogPath() {
+        return eventLogPath;
+    }
+
+    /** Check if test wall time is broken down into phases */
+    public boolean isPhaseTimingEnabled() {
+        return phaseTimingEnabled;
+    }
+
+    /** Get directory of the per-run phase timing exports */
+    public String getPhaseTimingPath() {
+        return phaseTimingPath;
+    }
+
+    /** Get number of runs compared in the phase timing trend view */
+    public int getPhaseTimingTrendRuns() {
+        return phaseTimingTrendRuns;
+    }
+
+    /** Check if exported phase timing runs are appended to the result history */
+    public boolean isHistoryEnabled() {
+        return historyEnabled;
+    }
+
+    /** Get directory of the result history store */
+    public String getHistoryPath() {
+        return historyPath;
+    }
+
+    /** Get number of previous runs a test's duration is compared against */
+    public int getHistoryBaselineRuns() {
+        return historyBaselineRuns;
+    }
+
+    /** Get allowed duration increase over the baseline median before a test is flagged */
+    public int getHistoryRegressionThresholdPercent() {
+        return historyRegressionThresholdPercent;
+    }
+
+    /** Get minimum duration increase for a test to be flagged */
+    public int getHistoryRegressionMinimumMs() {
+        return historyRegressionMinimumMs;
+    }
+
+    /** Check if WebDriver commands are recorded for failure reports */
+    public boolean isFlightRecorderEnabled() {
+        return flightRecorderEnabled;
+    }
+
+    /** Get number of most recent WebDriver commands kept per test thread */
+    public int getFlightRecorderSize() {
+        return flightRecorderSize;
+    }
+
+    /** Get number of most recent browser console entries added to a failure report */
+    public int getFlightRecorderConsoleEntries() {
+        return flightRecorderConsoleEntries;
+    }
+
+    /** Check if authenticated state caching is enabled */
+    public boolean isAuthStateEnabled() {
+        return authStateEnabled;
+    }
+
+    /** Get authenticated state storage path */
+    public String getAuthStatePath() {
+        return authStatePath;
+    }
+
+    /** Get authenticated state time-to-live in minutes */
+    public int getAuthStateTtlMinutes() {
+        return authStateTtlMinutes;
+    }
+
+    /** Check if the browser session should be reused across test methods */
+    public boolean isSessionReuse() {
+        return sessionReuse;
+    }
+
+    /** Check if navigation to the URL the session is already on should be skipped */
+    public boolean isSkipRedundantNavigation() {
+        return skipRedundantNavigation;
+    }
+
+    /** Check if the next test's start URL should be preloaded */
+    public boolean isPreloadNextUrl() {
+        return preloadNextUrl;
+    }
+
+    /** Check if fail-fast gating is enabled */
+    public boolean isGatingEnabled() {
+        return gatingEnabled;
+    }
+
+    /** Get gate groups whose failure skips their dependent groups */
+    public List<String> getGateGroups() {
+        return gateGroups;
+    }
+
+    /**
+     * Get groups depending on a gate group
+     * @param gateGroup Gate group
+     * @return List of dependent groups
+     */
+    public List<String> getGateDependents(String gateGroup) {
+        List<String> dependents = gateDependents.get(gateGroup);
+        return Objects.nonNull(dependents) ? dependents : getList("gate." + gateGroup + ".dependents");
+    }
+
+    /** Check if the pre-flight environment probe is enabled */
+    public boolean isPreflightEnabled() {
+        return preflightEnabled;
+    }
+
+    /** Get pre-flight probe timeout per request in milliseconds */
+    public int getPreflightTimeoutMillis() {
+        return preflightTimeoutMillis;
+    }
+
+    /** Get key assets checked by the pre-flight probe, relative to the application URL */
+    public List<String> getPreflightAssets() {
+        return preflightAssets;
+    }
+
+    /** Get number of consecutive navigation failures that opens the circuit breaker */
+    public int getCircuitBreakerThreshold() {
+        return circuitBreakerThreshold;
+    }
+}
\ No newline at end of file
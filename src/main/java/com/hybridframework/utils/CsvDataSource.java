@@ -0,0 +1,225 @@
+package com.hybridframework.utils;
+
+import com.hybridframework.constants.FrameworkConstants;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * CSV test data backend. The file is memory-mapped and parsed straight from the mapped bytes
+ * (RFC 4180 quoting, LF or CRLF line ends, optional UTF-8 BOM) with a single reusable field
+ * buffer, so the only allocations are the decoded values themselves. The first record holds
+ * the headers; the data key is ignored since a CSV file holds a single data set.
+ */
+public class CsvDataSource implements TestDataSource {
+
+    private static final Logger logger = LogManager.getLogger(CsvDataSource.class);
+    private static final Map<String, CachedFile> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Parsed file together with the file version it was parsed from
+     */
+    private static final class CachedFile {
+        private final long lastModified;
+        private final long length;
+        private final TestDataTable table;
+
+        private CachedFile(long lastModified, long length, TestDataTable table) {
+            this.lastModified = lastModified;
+            this.length = length;
+            this.table = table;
+        }
+
+        private boolean isCurrent(File file) {
+            return lastModified == file.lastModified() && length == file.length();
+        }
+    }
+
+    @Override
+    public boolean supports(String filePath) {
+        return filePath.endsWith(FrameworkConstants.CSV_EXTENSION);
+    }
+
+    @Override
+    public TestDataTable getTable(String filePath, String dataKey) {
+        File file = new File(filePath);
+        String cacheKey = file.getAbsolutePath();
+
+        CachedFile cached = cache.get(cacheKey);
+        if (Objects.nonNull(cached) && cached.isCurrent(file)) {
+            return cached.table;
+        }
+
+        return cache.compute(cacheKey, (key, current) ->
+                Objects.nonNull(current) && current.isCurrent(file) ? current : parse(file)).table;
+    }
+
+    /**
+     * Parse a CSV file into a table
+     * @param file CSV file
+     * @return Cached file
+     */
+    private static CachedFile parse(File file) {
+        long lastModified = file.lastModified();
+        long length = file.length();
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            skipByteOrderMark(buffer);
+
+            RecordParser parser = new RecordParser(buffer);
+            TestDataTable.Builder table = TestDataTable.builder();
+            List<String> fields = new ArrayList<>();
+            int width = -1;
+
+            while (parser.readRecord(fields)) {
+                if (width < 0) {
+                    // Row values are placed by position, so every header must get its own column
+                    for (int col = 0; col < fields.size(); col++) {
+                        if (table.addColumn(fields.get(col)) != col) {
+                            throw new IllegalArgumentException("Duplicate column '" + fields.get(col) + "' in CSV header of file: " + file.getPath());
+                        }
+                    }
+                    width = fields.size();
+                    continue;
+                }
+
+                String[] values = new String[width];
+                Arrays.fill(values, "");
+                for (int col = 0; col < Math.min(width, fields.size()); col++) {
+                    values[col] = fields.get(col);
+                }
+                table.addRow(values);
+            }
+
+            TestDataTable data = table.build();
+            logger.info("Parsed " + data.size() + " data rows from CSV file: " + file.getPath());
+            return new CachedFile(lastModified, length, data);
+        } catch (IOException e) {
+            logger.error("Failed to read CSV file: " + file.getPath(), e);
+            throw new RuntimeException("Failed to read CSV file: " + file.getPath(), e);
+        }
+    }
+
+    private static void skipByteOrderMark(MappedByteBuffer buffer) {
+        if (buffer.remaining() >= 3 && (buffer.get(0) & 0xFF) == 0xEF && (buffer.get(1) & 0xFF) == 0xBB && (buffer.get(2) & 0xFF) == 0xBF) {
+            buffer.position(3);
+        }
+    }
+
+    /**
+     * Reads records from the mapped bytes, reusing one field buffer
+     */
+    private static final class RecordParser {
+
+        private static final byte COMMA = ',';
+        private static final byte QUOTE = '"';
+        private static final byte CR = '\r';
+        private static final byte LF = '\n';
+
+        private final MappedByteBuffer buffer;
+        private byte[] field = new byte[256];
+        private int fieldLength;
+
+        private RecordParser(MappedByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        /**
+         * Read the next non-blank record
+         * @param fields Cleared and filled with the record's fields
+         * @return False at end of file
+         */
+        private boolean readRecord(List<String> fields) {
+            while (buffer.hasRemaining()) {
+                fields.clear();
+                boolean quotedSeen = readFields(fields);
+                boolean blankLine = fields.size() == 1 && fields.get(0).isEmpty() && !quotedSeen;
+                if (!blankLine) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Read fields up to the end of the current record
+         * @param fields Receives the fields
+         * @return True if any field was quoted
+         */
+        private boolean readFields(List<String> fields) {
+            boolean quotedSeen = false;
+            while (true) {
+                fieldLength = 0;
+                if (buffer.hasRemaining() && buffer.get(buffer.position()) == QUOTE) {
+                    quotedSeen = true;
+                    buffer.get();
+                    readQuoted();
+                }
+
+                // Unquoted text, or anything trailing a closing quote, runs to the next separator
+                while (true) {
+                    if (!buffer.hasRemaining()) {
+                        fields.add(decode());
+                        return quotedSeen;
+                    }
+                    byte b = buffer.get();
+                    if (b == COMMA) {
+                        fields.add(decode());
+                        break;
+                    }
+                    if (b == LF || b == CR) {
+                        if (b == CR && buffer.hasRemaining() && buffer.get(buffer.position()) == LF) {
+                            buffer.get();
+                        }
+                        fields.add(decode());
+                        return quotedSeen;
+                    }
+                    append(b);
+                }
+            }
+        }
+
+        /**
+         * Read a quoted field body; the opening quote is already consumed
+         */
+        private void readQuoted() {
+            while (buffer.hasRemaining()) {
+                byte b = buffer.get();
+                if (b == QUOTE) {
+                    if (buffer.hasRemaining() && buffer.get(buffer.position()) == QUOTE) {
+                        buffer.get();
+                        append(QUOTE);
+                    } else {
+                        return;
+                    }
+                } else {
+                    append(b);
+                }
+            }
+        }
+
+        private void append(byte b) {
+            if (fieldLength == field.length) {
+                field = Arrays.copyOf(field, field.length * 2);
+            }
+            field[fieldLength++] = b;
+        }
+
+        private String decode() {
+            return fieldLength == 0 ? "" : new String(field, 0, fieldLength, StandardCharsets.UTF_8);
+        }
+    }
+}
\ No newline at end of file
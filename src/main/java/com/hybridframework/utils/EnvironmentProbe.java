@@ -0,0 +1,112 @@
+package com.hybridframework.utils;
+
+import com.hybridframework.constants.FrameworkConstants;
+import com.hybridframework.drivers.DriverManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Pre-flight environment probe run before any browser is started. Checks in parallel
+ * that the application URL and its key assets are reachable over plain HTTP.
+ */
+public class EnvironmentProbe {
+
+    private static final Logger logger = LogManager.getLogger(EnvironmentProbe.class);
+
+    /**
+     * Probe the environment
+     * @return List of failure messages, empty if the environment is usable
+     */
+    public static List<String> probe() {
+        List<String> failures = probe(ConfigReader.getApplicationUrl(), ConfigReader.getPreflightAssets(),
+                Duration.ofMillis(ConfigReader.getPreflightTimeoutMillis()));
+        checkBrowserBinary();
+        return failures;
+    }
+
+    /**
+     * Probe an application URL and its assets
+     * @param applicationUrl Application URL
+     * @param assets Asset paths, resolved against the application URL
+     * @param timeout Connect and request timeout
+     * @return List of failure messages, empty if all targets are reachable
+     */
+    public static List<String> probe(String applicationUrl, List<String> assets, Duration timeout) {
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(timeout)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+
+        List<String> targets = new ArrayList<>();
+        targets.add(applicationUrl);
+        for (String asset : assets) {
+            targets.add(URI.create(applicationUrl).resolve(asset).toString());
+        }
+
+        List<CompletableFuture<String>> checks = new ArrayList<>();
+        for (String target : targets) {
+            checks.add(check(client, target, timeout));
+        }
+
+        List<String> failures = new ArrayList<>();
+        for (CompletableFuture<String> check : checks) {
+            String failure = check.join();
+            if (Objects.nonNull(failure)) {
+                failures.add(failure);
+            }
+        }
+
+        if (failures.isEmpty()) {
+            logger.info("Pre-flight probe passed for " + targets.size() + " target(s)");
+        } else {
+            logger.error("Pre-flight probe failed: " + failures);
+        }
+        return failures;
+    }
+
+    /**
+     * Check a single URL asynchronously
+     * @param client HTTP client
+     * @param url URL to check
+     * @param timeout Request timeout
+     * @return Future holding a failure message, or null if the URL is reachable
+     */
+    private static CompletableFuture<String> check(HttpClient client, String url, Duration timeout) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(timeout)
+                .GET()
+                .build();
+
+        return client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .handle((response, error) -> {
+                    if (Objects.nonNull(error)) {
+                        return url + " unreachable: " + error.getMessage();
+                    }
+                    if (response.statusCode() >= 400) {
+                        return url + " returned HTTP " + response.statusCode();
+                    }
+                    return null;
+                });
+    }
+
+    /**
+     * Warn when none of the Chrome binaries the driver factory looks for is installed.
+     * Not treated as a failure since WebDriverManager may still locate a browser elsewhere.
+     */
+    private static void checkBrowserBinary() {
+        if (FrameworkConstants.CHROME.equalsIgnoreCase(ConfigReader.getBrowser())
+                && Objects.isNull(DriverManager.findChromeBinary())) {
+            logger.warn("No Chrome binary found in the known install locations");
+        }
+    }
+}
\ No newline at end of file
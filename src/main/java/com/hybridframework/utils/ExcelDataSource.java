@@ -0,0 +1,143 @@
+package com.hybridframework.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Thread-safe Excel data source. Each sheet is parsed once into an immutable dataset and
+ * cached by file path, sheet name and modification time, so any number of data providers
+ * can read it concurrently without sharing POI workbook state.
+ */
+public class ExcelDataSource {
+
+    private static final Logger logger = LogManager.getLogger(ExcelDataSource.class);
+    private static final Map<String, CachedSheet> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Parsed sheet together with the file version it was parsed from
+     */
+    private static final class CachedSheet {
+        private final long lastModified;
+        private final long length;
+        private final TestDataTable table;
+
+        private CachedSheet(long lastModified, long length, TestDataTable table) {
+            this.lastModified = lastModified;
+            this.length = length;
+            this.table = table;
+        }
+
+        private boolean isCurrent(File file) {
+            return lastModified == file.lastModified() && length == file.length();
+        }
+    }
+
+    /**
+     * Get all data rows of a sheet, keyed by header
+     * @param filePath Excel file path
+     * @param sheetName Sheet name
+     * @return Immutable list of immutable row maps
+     */
+    public static List<Map<String, String>> getSheetData(String filePath, String sheetName) {
+        return getSheetTable(filePath, sheetName).asMaps();
+    }
+
+    /**
+     * Get a sheet as a compact shared-schema table
+     * @param filePath Excel file path
+     * @param sheetName Sheet name
+     * @return Immutable test data table
+     */
+    public static TestDataTable getSheetTable(String filePath, String sheetName) {
+        File file = new File(filePath);
+        String cacheKey = file.getAbsolutePath() + "#" + sheetName;
+
+        CachedSheet cached = cache.get(cacheKey);
+        if (Objects.nonNull(cached) && cached.isCurrent(file)) {
+            return cached.table;
+        }
+
+        // compute() parses at most once per key even when many threads miss together
+        return cache.compute(cacheKey, (key, current) ->
+                Objects.nonNull(current) && current.isCurrent(file) ? current : parse(file, sheetName)).table;
+    }
+
+    /**
+     * Drop every cached sheet
+     */
+    public static void clearCache() {
+        cache.clear();
+    }
+
+    /**
+     * Parse a sheet into an immutable dataset
+     * @param file Excel file
+     * @param sheetName Sheet name
+     * @return Cached sheet
+     */
+    private static CachedSheet parse(File file, String sheetName) {
+        long lastModified = file.lastModified();
+        long length = file.length();
+        TestDataTable data = CompiledTestData.load(file, sheetName, () -> readSheet(file, sheetName));
+        return new CachedSheet(lastModified, length, data);
+    }
+
+    /**
+     * Read a sheet from the workbook into a table
+     * @param file Excel file
+     * @param sheetName Sheet name
+     * @return Test data table
+     */
+    private static TestDataTable readSheet(File file, String sheetName) {
+        try (FileInputStream fis = new FileInputStream(file);
+             Workbook workbook = new XSSFWorkbook(fis)) {
+            Sheet sheet = workbook.getSheet(sheetName);
+            if (Objects.isNull(sheet)) {
+                throw new IllegalArgumentException("Sheet '" + sheetName + "' not found in Excel file: " + file.getPath());
+            }
+
+            TestDataTable.Builder table = TestDataTable.builder();
+            Row headerRow = sheet.getRow(0);
+            if (Objects.nonNull(headerRow)) {
+                int colCount = headerRow.getLastCellNum();
+                // Repeated headers share a column, the rightmost value wins as before
+                int[] targetColumns = new int[colCount];
+                for (int col = 0; col < colCount; col++) {
+                    targetColumns[col] = table.addColumn(ExcelUtils.getCellValueAsString(headerRow.getCell(col)));
+                }
+                int width = 0;
+                for (int target : targetColumns) {
+                    width = Math.max(width, target + 1);
+                }
+
+                for (int rowNum = 1; rowNum <= sheet.getLastRowNum(); rowNum++) {
+                    Row row = sheet.getRow(rowNum);
+                    String[] values = new String[width];
+                    for (int col = 0; col < colCount; col++) {
+                        values[targetColumns[col]] = Objects.nonNull(row) ? ExcelUtils.getCellValueAsString(row.getCell(col)) : "";
+                    }
+                    table.addRow(values);
+                }
+            }
+
+            TestDataTable data = table.build();
+            logger.info("Parsed " + data.size() + " data rows from sheet: " + sheetName + " (" + file.getPath() + ")");
+            return data;
+        } catch (IOException e) {
+            logger.error("Failed to read Excel file: " + file.getPath(), e);
+            throw new RuntimeException("Failed to read Excel file: " + file.getPath(), e);
+        }
+    }
+}
\ No newline at end of file
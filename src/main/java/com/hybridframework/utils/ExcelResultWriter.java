@@ -0,0 +1,225 @@
+package com.hybridframework.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFCell;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Batched write-back of test results to Excel. Tests from any thread enqueue cell updates;
+ * a single background writer coalesces them (the last value per cell wins) and writes each
+ * workbook once per flush, periodically and at suite end. Updates that only add rows below
+ * the existing data (and new result files) are written with POI's streaming SXSSF writer.
+ * Coalesced updates of a file are kept until its replacement has been moved into place, so a
+ * failed write is retried with the next flush. An existing workbook is still loaded whole to
+ * be rewritten, which bounds this writer to result files that fit in memory.
+ */
+public class ExcelResultWriter {
+
+    private static final Logger logger = LogManager.getLogger(ExcelResultWriter.class);
+    private static final int STREAMING_WINDOW_ROWS = 100;
+    private static final Queue<CellUpdate> updates = new ConcurrentLinkedQueue<>();
+    // file -> sheet -> row -> column -> value, ordered for streaming writes; writer thread only
+    private static final Map<String, Map<String, TreeMap<Integer, TreeMap<Integer, String>>>> pending = new LinkedHashMap<>();
+    private static ScheduledExecutorService writer;
+
+    /**
+     * Pending value for one cell
+     */
+    private static final class CellUpdate {
+        private final String filePath;
+        private final String sheetName;
+        private final int rowNum;
+        private final int colNum;
+        private final String value;
+
+        private CellUpdate(String filePath, String sheetName, int rowNum, int colNum, String value) {
+            this.filePath = filePath;
+            this.sheetName = sheetName;
+            this.rowNum = rowNum;
+            this.colNum = colNum;
+            this.value = value;
+        }
+    }
+
+    /**
+     * Queue a cell update for the background writer
+     * @param filePath Excel file path, created if missing
+     * @param sheetName Sheet name, created if missing
+     * @param rowNum Row number (0-based)
+     * @param colNum Column number (0-based)
+     * @param value Value to write
+     */
+    public static void enqueue(String filePath, String sheetName, int rowNum, int colNum, String value) {
+        updates.add(new CellUpdate(filePath, sheetName, rowNum, colNum, value));
+        ensureStarted();
+    }
+
+    /**
+     * Write all queued updates and wait until they are on disk
+     */
+    public static void flush() {
+        ScheduledExecutorService current = getWriter();
+        if (Objects.isNull(current)) {
+            return;
+        }
+
+        try {
+            current.submit(ExcelResultWriter::writePending).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Interrupted while flushing Excel results");
+        } catch (ExecutionException e) {
+            logger.error("Failed to flush Excel results", e.getCause());
+        }
+    }
+
+    private static synchronized ScheduledExecutorService getWriter() {
+        return writer;
+    }
+
+    /**
+     * Start the single writer thread on first use
+     */
+    private static synchronized void ensureStarted() {
+        if (Objects.nonNull(writer)) {
+            return;
+        }
+
+        writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "excel-result-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = ConfigReader.getExcelResultsFlushIntervalSeconds();
+        writer.scheduleWithFixedDelay(ExcelResultWriter::writePending, interval, interval, TimeUnit.SECONDS);
+        logger.info("Excel result writer started, flushing every " + interval + "s");
+    }
+
+    /**
+     * Drain and coalesce the queue, then write each affected workbook once, keeping the updates
+     * of files that failed to write. Runs on the writer thread only.
+     */
+    private static void writePending() {
+        int drained = 0;
+        CellUpdate update;
+        while (Objects.nonNull(update = updates.poll())) {
+            pending.computeIfAbsent(update.filePath, k -> new LinkedHashMap<>())
+                    .computeIfAbsent(update.sheetName, k -> new TreeMap<>())
+                    .computeIfAbsent(update.rowNum, k -> new TreeMap<>())
+                    .put(update.colNum, update.value);
+            drained++;
+        }
+
+        int written = 0;
+        Iterator<Map.Entry<String, Map<String, TreeMap<Integer, TreeMap<Integer, String>>>>> files = pending.entrySet().iterator();
+        while (files.hasNext()) {
+            Map.Entry<String, Map<String, TreeMap<Integer, TreeMap<Integer, String>>>> file = files.next();
+            try {
+                writeWorkbook(new File(file.getKey()), file.getValue());
+                files.remove();
+                written++;
+            } catch (Exception e) {
+                logger.error("Failed to write Excel results, keeping updates for the next flush: " + file.getKey(), e);
+            }
+        }
+
+        if (drained > 0 || written > 0) {
+            logger.info("Flushed " + drained + " Excel result updates to " + written + " file(s)"
+                    + (pending.isEmpty() ? "" : ", " + pending.size() + " file(s) pending retry"));
+        }
+    }
+
+    /**
+     * Apply the coalesced updates of one file and replace it atomically
+     * @param file Excel file
+     * @param sheets Updates by sheet, row and column
+     */
+    private static void writeWorkbook(File file, Map<String, TreeMap<Integer, TreeMap<Integer, String>>> sheets) throws IOException {
+        XSSFWorkbook base;
+        if (file.exists()) {
+            try (FileInputStream fis = new FileInputStream(file)) {
+                base = new XSSFWorkbook(fis);
+            }
+        } else {
+            base = new XSSFWorkbook();
+        }
+
+        boolean appendOnly = true;
+        for (Map.Entry<String, TreeMap<Integer, TreeMap<Integer, String>>> sheet : sheets.entrySet()) {
+            XSSFSheet existing = base.getSheet(sheet.getKey());
+            if (Objects.nonNull(existing) && existing.getPhysicalNumberOfRows() > 0 && sheet.getValue().firstKey() <= existing.getLastRowNum()) {
+                appendOnly = false;
+            }
+        }
+
+        // SXSSF can only add rows below existing ones, which covers new files and appended result rows
+        Workbook target = appendOnly ? new SXSSFWorkbook(base, STREAMING_WINDOW_ROWS, false, true) : base;
+        try {
+            for (Map.Entry<String, TreeMap<Integer, TreeMap<Integer, String>>> sheet : sheets.entrySet()) {
+                Sheet targetSheet = target.getSheet(sheet.getKey());
+                if (Objects.isNull(targetSheet)) {
+                    targetSheet = target.createSheet(sheet.getKey());
+                }
+                for (Map.Entry<Integer, TreeMap<Integer, String>> row : sheet.getValue().entrySet()) {
+                    Row targetRow = appendOnly ? null : targetSheet.getRow(row.getKey());
+                    if (Objects.isNull(targetRow)) {
+                        targetRow = targetSheet.createRow(row.getKey());
+                    }
+                    for (Map.Entry<Integer, String> cell : row.getValue().entrySet()) {
+                        Cell targetCell = targetRow.getCell(cell.getKey());
+                        if (Objects.isNull(targetCell)) {
+                            targetCell = targetRow.createCell(cell.getKey());
+                        } else if (targetCell instanceof XSSFCell && ((XSSFCell) targetCell).getCTCell().isSetIs()) {
+                            // XSSF keeps an inline string next to the new value unless it is dropped first
+                            ((XSSFCell) targetCell).getCTCell().unsetIs();
+                        }
+                        targetCell.setCellValue(cell.getValue());
+                    }
+                }
+            }
+
+            File parent = file.getAbsoluteFile().getParentFile();
+            Files.createDirectories(parent.toPath());
+            Path temp = Files.createTempFile(parent.toPath(), file.getName(), ".tmp");
+            try {
+                try (OutputStream out = Files.newOutputStream(temp)) {
+                    target.write(out);
+                }
+                Files.move(temp, file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } finally {
+            if (target instanceof SXSSFWorkbook) {
+                ((SXSSFWorkbook) target).dispose();
+            }
+            target.close();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,250 @@
+package com.hybridframework.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streaming Excel reader built on POI's event (SAX) model. Rows are parsed on a background
+ * thread into a small bounded queue and handed out lazily, so memory stays flat however
+ * large the sheet is. Cell values are the formatted strings Excel would display. The reader
+ * closes itself at the end of the sheet or on a failure; a producer whose rows are not taken
+ * for ten minutes treats the reader as abandoned and stops, releasing the file.
+ *
+ * <pre>
+ * &#64;DataProvider(name = "largeSheet")
+ * public Iterator&lt;Object[]&gt; largeSheet() {
+ *     return ExcelStreamReader.streamDataProvider(filePath, "Users");
+ * }
+ * </pre>
+ */
+public class ExcelStreamReader implements Iterator<Map<String, String>>, AutoCloseable {
+
+    private static final Logger logger = LogManager.getLogger(ExcelStreamReader.class);
+    private static final int QUEUE_CAPACITY = 256;
+    private static final long ABANDONED_AFTER_NANOS = TimeUnit.MINUTES.toNanos(10);
+    private static final Object END_OF_SHEET = new Object();
+
+    private final String filePath;
+    private final String sheetName;
+    private final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final Thread producer;
+    private volatile boolean closed;
+    private Object next;
+
+    private ExcelStreamReader(String filePath, String sheetName) {
+        this.filePath = filePath;
+        this.sheetName = sheetName;
+        this.producer = new Thread(this::produce, "excel-stream-" + sheetName);
+        this.producer.setDaemon(true);
+        this.producer.start();
+    }
+
+    /**
+     * Stream data rows of a sheet, keyed by header
+     * @param filePath Excel file path
+     * @param sheetName Sheet name
+     * @return Lazy row iterator; close it if iteration is abandoned early
+     */
+    public static ExcelStreamReader streamRows(String filePath, String sheetName) {
+        return new ExcelStreamReader(filePath, sheetName);
+    }
+
+    /**
+     * Stream data rows of a sheet as TestNG data provider parameters ({rowMap} per row)
+     * @param filePath Excel file path
+     * @param sheetName Sheet name
+     * @return Lazy data provider iterator
+     */
+    public static Iterator<Object[]> streamDataProvider(String filePath, String sheetName) {
+        ExcelStreamReader rows = streamRows(filePath, sheetName);
+        return new Iterator<Object[]>() {
+            @Override
+            public boolean hasNext() {
+                return rows.hasNext();
+            }
+
+            @Override
+            public Object[] next() {
+                return new Object[]{rows.next()};
+            }
+        };
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (Objects.isNull(next)) {
+            try {
+                while (Objects.isNull(next = queue.poll(100, TimeUnit.MILLISECONDS))) {
+                    if (closed && !producer.isAlive() && queue.isEmpty()) {
+                        throw new IllegalStateException("Excel stream closed before the end of sheet: " + sheetName);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                close();
+                throw new RuntimeException("Interrupted while streaming Excel sheet: " + sheetName, e);
+            }
+        }
+        if (next instanceof RuntimeException) {
+            close();
+            throw (RuntimeException) next;
+        }
+        if (next == END_OF_SHEET) {
+            close();
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<String, String> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more rows in sheet: " + sheetName);
+        }
+        Map<String, String> row = (Map<String, String>) next;
+        next = null;
+        return row;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        if (producer.isAlive()) {
+            producer.interrupt();
+        }
+    }
+
+    /**
+     * Parse the sheet on the producer thread
+     */
+    private void produce() {
+        try (OPCPackage pkg = OPCPackage.open(filePath, PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+            StylesTable styles = reader.getStylesTable();
+
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+            while (sheets.hasNext()) {
+                try (InputStream sheet = sheets.next()) {
+                    if (sheetName.equals(sheets.getSheetName())) {
+                        XMLReader parser = XMLHelper.newXMLReader();
+                        parser.setContentHandler(new XSSFSheetXMLHandler(styles, null, strings, new RowHandler(), new DataFormatter(), false));
+                        parser.parse(new InputSource(sheet));
+                        put(END_OF_SHEET);
+                        logger.info("Finished streaming sheet: " + sheetName + " (" + filePath + ")");
+                        return;
+                    }
+                }
+            }
+            put(new IllegalArgumentException("Sheet '" + sheetName + "' not found in Excel file: " + filePath));
+        } catch (StreamClosedException e) {
+            logger.debug("Excel stream closed before end of sheet: " + sheetName);
+        } catch (Exception e) {
+            logger.error("Failed to stream Excel file: " + filePath, e);
+            try {
+                put(new RuntimeException("Failed to stream Excel file: " + filePath, e));
+            } catch (StreamClosedException ignored) {
+                // Consumer is gone, nothing left to report to
+            }
+        }
+    }
+
+    /**
+     * Hand an item to the consumer, waiting while the queue is full until the reader is closed
+     * or no row has been taken for too long
+     * @param item Row map, end marker or failure
+     */
+    private void put(Object item) {
+        long deadline = System.nanoTime() + ABANDONED_AFTER_NANOS;
+        try {
+            while (!queue.offer(item, 100, TimeUnit.MILLISECONDS)) {
+                if (closed) {
+                    throw new StreamClosedException();
+                }
+                if (System.nanoTime() - deadline >= 0) {
+                    logger.warn("No row taken for " + TimeUnit.NANOSECONDS.toMinutes(ABANDONED_AFTER_NANOS)
+                            + " minutes, closing abandoned stream of sheet: " + sheetName + " (" + filePath + ")");
+                    closed = true;
+                    throw new StreamClosedException();
+                }
+            }
+        } catch (InterruptedException e) {
+            throw new StreamClosedException();
+        }
+    }
+
+    /**
+     * Signals the consumer closed the stream
+     */
+    private static final class StreamClosedException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private StreamClosedException() {
+            super(null, null, false, false);
+        }
+    }
+
+    /**
+     * Collects SAX cell events into header-keyed row maps
+     */
+    private final class RowHandler implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+        private List<String> headers;
+        private final List<String> values = new ArrayList<>();
+
+        @Override
+        public void startRow(int rowNum) {
+            values.clear();
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (Objects.isNull(headers)) {
+                headers = new ArrayList<>(values);
+                return;
+            }
+
+            Map<String, String> row = new LinkedHashMap<>();
+            for (int col = 0; col < headers.size(); col++) {
+                row.put(headers.get(col), col < values.size() ? values.get(col) : "");
+            }
+            put(Collections.unmodifiableMap(row));
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            // Blank cells produce no event, so pad up to this cell's column; cells without an r attribute follow the previous one
+            int col = Objects.nonNull(cellReference) ? new CellReference(cellReference).getCol() : values.size();
+            while (values.size() < col) {
+                values.add("");
+            }
+            values.add(Objects.nonNull(formattedValue) ? formattedValue : "");
+        }
+    }
+}
\ No newline at end of file
@@ -11,17 +11,19 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
 /**
- * Utility class for Excel operations
+ * Utility class for Excel operations. The open workbook is held per thread, so parallel
+ * tests using the cell-level API do not share or close each other's workbooks.
  */
 public class ExcelUtils {
     
     private static final Logger logger = LogManager.getLogger(ExcelUtils.class);
-    private static Workbook workbook;
-    private static Sheet worksheet;
+    private static final ThreadLocal<Workbook> workbook = new ThreadLocal<>();
+    private static final ThreadLocal<Sheet> worksheet = new ThreadLocal<>();
     
     /**
      * Open Excel file
@@ -29,10 +31,11 @@ public class ExcelUtils {
      * @param sheetName Sheet name
      */
     public static void openExcelFile(String filePath, String sheetName) {
-        try {
-            FileInputStream fis = new FileInputStream(filePath);
-            workbook = new XSSFWorkbook(fis);
-            worksheet = workbook.getSheet(sheetName);
+        closeExcelFile();
+        try (FileInputStream fis = new FileInputStream(filePath)) {
+            Workbook openedWorkbook = new XSSFWorkbook(fis);
+            workbook.set(openedWorkbook);
+            worksheet.set(openedWorkbook.getSheet(sheetName));
             logger.info("Excel file opened successfully: " + filePath + " - Sheet: " + sheetName);
         } catch (IOException e) {
             logger.error("Failed to open Excel file: " + filePath, e);
@@ -45,12 +48,15 @@ public class ExcelUtils {
      */
     public static void closeExcelFile() {
         try {
-            if (workbook != null) {
-                workbook.close();
+            if (workbook.get() != null) {
+                workbook.get().close();
                 logger.info("Excel file closed successfully");
             }
         } catch (IOException e) {
             logger.error("Failed to close Excel file", e);
+        } finally {
+            workbook.remove();
+            worksheet.remove();
         }
     }
     
@@ -59,11 +65,11 @@ public class ExcelUtils {
      * @return Total number of rows
      */
     public static int getRowCount() {
-        if (worksheet == null) {
+        if (worksheet.get() == null) {
             logger.error("Worksheet is null. Please open Excel file first.");
             return 0;
         }
-        int rowCount = worksheet.getLastRowNum() + 1;
+        int rowCount = worksheet.get().getLastRowNum() + 1;
         logger.info("Total rows in sheet: " + rowCount);
         return rowCount;
     }
@@ -73,17 +79,17 @@ public class ExcelUtils {
      * @return Total number of columns
      */
     public static int getColumnCount() {
-        if (worksheet == null) {
+        if (worksheet.get() == null) {
             logger.error("Worksheet is null. Please open Excel file first.");
             return 0;
         }
         
-        if (worksheet.getRow(0) == null) {
+        if (worksheet.get().getRow(0) == null) {
             logger.error("First row is null.");
             return 0;
         }
         
-        int columnCount = worksheet.getRow(0).getLastCellNum();
+        int columnCount = worksheet.get().getRow(0).getLastCellNum();
         logger.info("Total columns in sheet: " + columnCount);
         return columnCount;
     }
@@ -95,13 +101,13 @@ public class ExcelUtils {
      * @return Cell data as string
      */
     public static String getCellData(int rowNum, int colNum) {
-        if (worksheet == null) {
+        if (worksheet.get() == null) {
             logger.error("Worksheet is null. Please open Excel file first.");
             return "";
         }
         
         try {
-            Row row = worksheet.getRow(rowNum);
+            Row row = worksheet.get().getRow(rowNum);
             if (row == null) {
                 logger.warn("Row " + rowNum + " is null");
                 return "";
@@ -129,7 +135,7 @@ public class ExcelUtils {
      * @return Cell data as string
      */
     public static String getCellData(int rowNum, String columnName) {
-        if (worksheet == null) {
+        if (worksheet.get() == null) {
             logger.error("Worksheet is null. Please open Excel file first.");
             return "";
         }
@@ -144,21 +150,22 @@ public class ExcelUtils {
     }
     
     /**
-     * Set cell data
+     * Set cell data in the open workbook. To write results from parallel tests, use
+     * {@link ExcelResultWriter#enqueue(String, String, int, int, String)} instead.
      * @param rowNum Row number (0-based)
      * @param colNum Column number (0-based)
      * @param data Data to set
      */
     public static void setCellData(int rowNum, int colNum, String data) {
-        if (worksheet == null) {
+        if (worksheet.get() == null) {
             logger.error("Worksheet is null. Please open Excel file first.");
             return;
         }
         
         try {
-            Row row = worksheet.getRow(rowNum);
+            Row row = worksheet.get().getRow(rowNum);
             if (row == null) {
-                row = worksheet.createRow(rowNum);
+                row = worksheet.get().createRow(rowNum);
             }
             
             Cell cell = row.getCell(colNum);
@@ -178,10 +185,8 @@ public class ExcelUtils {
      * @param filePath File path to save
      */
     public static void saveExcelFile(String filePath) {
-        try {
-            FileOutputStream fos = new FileOutputStream(filePath);
-            workbook.write(fos);
-            fos.close();
+        try (FileOutputStream fos = new FileOutputStream(filePath)) {
+            workbook.get().write(fos);
             logger.info("Excel file saved successfully: " + filePath);
         } catch (IOException e) {
             logger.error("Failed to save Excel file: " + filePath, e);
@@ -195,12 +200,12 @@ public class ExcelUtils {
      * @return Column index (-1 if not found)
      */
     private static int getColumnIndex(String columnName) {
-        if (worksheet == null) {
+        if (worksheet.get() == null) {
             logger.error("Worksheet is null. Please open Excel file first.");
             return -1;
         }
         
-        Row headerRow = worksheet.getRow(0);
+        Row headerRow = worksheet.get().getRow(0);
         if (headerRow == null) {
             logger.error("Header row is null");
             return -1;
@@ -221,7 +226,7 @@ public class ExcelUtils {
      * @param cell Cell object
      * @return Cell value as string
      */
-    private static String getCellValueAsString(Cell cell) {
+    static String getCellValueAsString(Cell cell) {
         if (cell == null) {
             return "";
         }
@@ -247,51 +252,34 @@ public class ExcelUtils {
     }
     
     /**
-     * Get all data from sheet as List of Maps
+     * Get all data from sheet as List of Maps. Rows come from the shared, immutable
+     * sheet cache and are safe to read from any thread.
      * @param filePath Excel file path
      * @param sheetName Sheet name
      * @return List of Maps containing all data
      */
     public static List<Map<String, String>> getAllData(String filePath, String sheetName) {
-        List<Map<String, String>> data = new ArrayList<>();
-        
         try {
-            openExcelFile(filePath, sheetName);
-            
-            int rowCount = getRowCount();
-            int colCount = getColumnCount();
-            
-            if (rowCount <= 1) {
+            List<Map<String, String>> data = ExcelDataSource.getSheetData(filePath, sheetName);
+            if (data.isEmpty()) {
                 logger.warn("No data rows found in sheet: " + sheetName);
-                return data;
             }
-            
-            // Get header row
-            List<String> headers = new ArrayList<>();
-            for (int col = 0; col < colCount; col++) {
-                headers.add(getCellData(0, col));
-            }
-            
-            // Get data rows
-            for (int row = 1; row < rowCount; row++) {
-                Map<String, String> rowData = new HashMap<>();
-                for (int col = 0; col < colCount; col++) {
-                    String header = headers.get(col);
-                    String value = getCellData(row, col);
-                    rowData.put(header, value);
-                }
-                data.add(rowData);
-            }
-            
-            logger.info("Retrieved " + data.size() + " data rows from sheet: " + sheetName);
-            
+            return data;
         } catch (Exception e) {
             logger.error("Error getting all data from Excel", e);
-        } finally {
-            closeExcelFile();
+            return new ArrayList<>();
         }
-        
-        return data;
+    }
+    
+    /**
+     * Stream all data from a sheet as TestNG data provider rows without loading the
+     * workbook into memory. Suitable for sheets with tens of thousands of rows.
+     * @param filePath Excel file path
+     * @param sheetName Sheet name
+     * @return Lazy iterator of {rowMap} parameter arrays
+     */
+    public static Iterator<Object[]> streamAllData(String filePath, String sheetName) {
+        return ExcelStreamReader.streamDataProvider(filePath, sheetName);
     }
     
     /**
@@ -299,24 +287,18 @@ public class ExcelUtils {
      * @param filePath Excel file path
      * @param sheetName Sheet name
      * @param testCaseName Test case name
-     * @return Test data as Map
+     * @return Mutable copy of the test data, empty if the test case is missing
      */
     public static Map<String, String> getTestData(String filePath, String sheetName, String testCaseName) {
         Map<String, String> testData = new HashMap<>();
         
         try {
-            List<Map<String, String>> allData = getAllData(filePath, sheetName);
-            
-            for (Map<String, String> rowData : allData) {
-                if (rowData.containsKey("TestCase") && rowData.get("TestCase").equals(testCaseName)) {
-                    testData = rowData;
-                    break;
-                }
-            }
+            Map<String, String> rowData = TestDataIndex.lookup(filePath, sheetName, FrameworkConstants.EXCEL_TEST_CASE_COLUMN, testCaseName);
             
-            if (testData.isEmpty()) {
+            if (rowData == null) {
                 logger.warn("No test data found for test case: " + testCaseName);
             } else {
+                testData = new HashMap<>(rowData);
                 logger.info("Test data retrieved for test case: " + testCaseName);
             }
             
@@ -2,6 +2,10 @@ package com.hybridframework.utils;
 
 import com.aventstack.extentreports.ExtentReports;
 import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
+import com.aventstack.extentreports.markuputils.Markup;
+import com.aventstack.extentreports.markuputils.MarkupHelper;
+import com.aventstack.extentreports.model.Log;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
 import com.aventstack.extentreports.reporter.configuration.Theme;
 import org.apache.logging.log4j.LogManager;
@@ -10,16 +14,91 @@ import org.apache.logging.log4j.Logger;
 import java.io.File;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 /**
- * ExtentReports manager for test reporting
+ * ExtentReports manager for test reporting. With report.async enabled, report calls only put
+ * an event tagged with the test id on a bounded blocking queue; a single background consumer
+ * applies the events to the ExtentTest nodes in order. Producers block once report.queue.capacity
+ * events are pending. Readers wait on a barrier event queued behind their own events, so they
+ * never wait for events other threads queue later.
+ * With report.incremental enabled, each test is moved to the {@link ReportStore} once released
+ * and the HTML report is rendered from the store, so only running tests are held in memory.
  */
 public class ExtentReportManager {
     
     private static final Logger logger = LogManager.getLogger(ExtentReportManager.class);
     private static ExtentReports extent;
     private static final ThreadLocal<ExtentTest> test = new ThreadLocal<>();
+    private static final Map<String, String> systemInfo = new LinkedHashMap<>();
+    
+    // Incremental mode state: tests created but not yet moved to the report store
+    private static final Set<ExtentTest> liveTests = ConcurrentHashMap.newKeySet();
+    private static volatile boolean incremental;
+    
+    // Screenshots still being written, attached to their tests once resolved
+    private static final Queue<PendingScreenshot> pendingScreenshots = new ConcurrentLinkedQueue<>();
+    
+    // Asynchronous mode state
+    private static final ThreadLocal<Long> testId = new ThreadLocal<>();
+    private static final AtomicLong testIds = new AtomicLong();
+    private static final Map<Long, ExtentTest> nodes = new ConcurrentHashMap<>();
+    private static final ReportEvent STOP = new ReportEvent(0, null, null, null);
+    private static volatile BlockingQueue<ReportEvent> events;
+    private static volatile boolean async;
+    private static volatile Thread consumer;
+    
+    /**
+     * Report update for one test node: creates it, updates it, or (with neither set) releases it.
+     * A barrier event only completes its future once every event queued before it is applied.
+     */
+    private static final class ReportEvent {
+        private final long testId;
+        private final Runnable creation;
+        private final Consumer<ExtentTest> action;
+        private final CompletableFuture<Void> barrier;
+        
+        private ReportEvent(long testId, Runnable creation, Consumer<ExtentTest> action) {
+            this(testId, creation, action, null);
+        }
+        
+        private ReportEvent(long testId, Runnable creation, Consumer<ExtentTest> action, CompletableFuture<Void> barrier) {
+            this.testId = testId;
+            this.creation = creation;
+            this.action = action;
+            this.barrier = barrier;
+        }
+    }
+    
+    /**
+     * Screenshot attachment waiting for its file to be written
+     */
+    private static final class PendingScreenshot {
+        private final ExtentTest extentTest;
+        private final CompletableFuture<String> screenshot;
+        private final Status status;
+        private final String message;
+        
+        private PendingScreenshot(ExtentTest extentTest, CompletableFuture<String> screenshot, Status status, String message) {
+            this.extentTest = extentTest;
+            this.screenshot = screenshot;
+            this.status = status;
+            this.message = message;
+        }
+    }
     
     /**
      * Initialize ExtentReports
@@ -34,13 +113,22 @@ public class ExtentReportManager {
                 reportFile.getParentFile().mkdirs();
             }
             
-            ExtentSparkReporter sparkReporter = new ExtentSparkReporter(reportPath);
-            configureSparkReporter(sparkReporter);
-            
             extent = new ExtentReports();
-            extent.attachReporter(sparkReporter);
+            incremental = ConfigReader.isReportIncremental();
+            if (incremental) {
+                // The HTML is rendered from the report store at flush instead of by Spark
+                ReportStore.open(ConfigReader.getReportStorePath());
+            } else {
+                ExtentSparkReporter sparkReporter = new ExtentSparkReporter(reportPath);
+                configureSparkReporter(sparkReporter);
+                extent.attachReporter(sparkReporter);
+            }
             setSystemInfo();
             
+            if (ConfigReader.isReportAsync()) {
+                startConsumer();
+            }
+            
             logger.info("ExtentReports initialized successfully");
         }
     }
@@ -49,7 +137,7 @@ public class ExtentReportManager {
      * Configure Spark Reporter
      * @param sparkReporter Spark reporter instance
      */
-    private static void configureSparkReporter(ExtentSparkReporter sparkReporter) {
+    static void configureSparkReporter(ExtentSparkReporter sparkReporter) {
         sparkReporter.config().setTheme(Theme.DARK);
         sparkReporter.config().setReportName(ConfigReader.getExtentReportName());
         sparkReporter.config().setDocumentTitle(ConfigReader.getExtentReportTitle());
@@ -62,14 +150,16 @@ public class ExtentReportManager {
      * Set system information
      */
     private static void setSystemInfo() {
-        extent.setSystemInfo("Operating System", System.getProperty("os.name"));
-        extent.setSystemInfo("OS Version", System.getProperty("os.version"));
-        extent.setSystemInfo("Java Version", System.getProperty("java.version"));
-        extent.setSystemInfo("User Name", System.getProperty("user.name"));
-        extent.setSystemInfo("Browser", ConfigReader.getBrowser());
-        extent.setSystemInfo("Environment", ConfigReader.getProperty("environment"));
-        extent.setSystemInfo("Application URL", ConfigReader.getApplicationUrl());
-        extent.setSystemInfo("Test Execution Time", LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
+        systemInfo.clear();
+        systemInfo.put("Operating System", System.getProperty("os.name"));
+        systemInfo.put("OS Version", System.getProperty("os.version"));
+        systemInfo.put("Java Version", System.getProperty("java.version"));
+        systemInfo.put("User Name", System.getProperty("user.name"));
+        systemInfo.put("Browser", ConfigReader.getBrowser());
+        systemInfo.put("Environment", ConfigReader.getEnvironment());
+        systemInfo.put("Application URL", ConfigReader.getApplicationUrl());
+        systemInfo.put("Test Execution Time", LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
+        systemInfo.forEach(extent::setSystemInfo);
     }
     
     /**
@@ -78,9 +168,7 @@ public class ExtentReportManager {
      * @param testDescription Test description
      */
     public static void createTest(String testName, String testDescription) {
-        ExtentTest extentTest = extent.createTest(testName, testDescription);
-        test.set(extentTest);
-        logger.info("Test created in ExtentReports: " + testName);
+        createTest(testName, testDescription, null);
     }
     
     /**
@@ -90,17 +178,62 @@ public class ExtentReportManager {
      * @param category Test category
      */
     public static void createTest(String testName, String testDescription, String category) {
+        if (async) {
+            long id = testIds.incrementAndGet();
+            testId.set(id);
+            enqueue(new ReportEvent(id, () -> {
+                ExtentTest extentTest = newTest(testName, testDescription, category);
+                nodes.put(id, extentTest);
+            }, null));
+        } else {
+            test.set(newTest(testName, testDescription, category));
+        }
+        logger.info("Test created in ExtentReports: " + testName + (Objects.nonNull(category) ? " with category: " + category : ""));
+    }
+    
+    /**
+     * Create a test node, tracking it until it is stored in incremental mode
+     * @param testName Test name
+     * @param testDescription Test description
+     * @param category Test category or null
+     * @return Created test
+     */
+    private static ExtentTest newTest(String testName, String testDescription, String category) {
         ExtentTest extentTest = extent.createTest(testName, testDescription);
-        extentTest.assignCategory(category);
-        test.set(extentTest);
-        logger.info("Test created in ExtentReports: " + testName + " with category: " + category);
+        if (Objects.nonNull(category)) {
+            extentTest.assignCategory(category);
+        }
+        if (incremental) {
+            liveTests.add(extentTest);
+        }
+        return extentTest;
+    }
+    
+    /**
+     * Move a finished test to the report store and drop it from memory
+     * @param extentTest Finished test
+     */
+    private static void storeTest(ExtentTest extentTest) {
+        if (liveTests.remove(extentTest)) {
+            resolveScreenshots(extentTest);
+            ReportStore.append(extentTest.getModel());
+            extent.removeTest(extentTest);
+        }
     }
     
     /**
-     * Get current test
+     * Get current test. In asynchronous mode this first waits for pending events to be applied.
      * @return Current ExtentTest
      */
     public static ExtentTest getTest() {
+        if (async) {
+            Long id = testId.get();
+            if (Objects.isNull(id)) {
+                return null;
+            }
+            drain();
+            return nodes.get(id);
+        }
         return test.get();
     }
     
@@ -109,9 +242,7 @@ public class ExtentReportManager {
      * @param message Info message
      */
     public static void logInfo(String message) {
-        if (Objects.nonNull(getTest())) {
-            getTest().info(message);
-        }
+        submit(extentTest -> extentTest.info(message));
     }
     
     /**
@@ -119,9 +250,7 @@ public class ExtentReportManager {
      * @param message Pass message
      */
     public static void logPass(String message) {
-        if (Objects.nonNull(getTest())) {
-            getTest().pass(message);
-        }
+        submit(extentTest -> extentTest.pass(message));
     }
     
     /**
@@ -129,9 +258,7 @@ public class ExtentReportManager {
      * @param message Fail message
      */
     public static void logFail(String message) {
-        if (Objects.nonNull(getTest())) {
-            getTest().fail(message);
-        }
+        submit(extentTest -> extentTest.fail(message));
     }
     
     /**
@@ -139,9 +266,7 @@ public class ExtentReportManager {
      * @param message Skip message
      */
     public static void logSkip(String message) {
-        if (Objects.nonNull(getTest())) {
-            getTest().skip(message);
-        }
+        submit(extentTest -> extentTest.skip(message));
     }
     
     /**
@@ -149,9 +274,27 @@ public class ExtentReportManager {
      * @param message Warning message
      */
     public static void logWarning(String message) {
-        if (Objects.nonNull(getTest())) {
-            getTest().warning(message);
-        }
+        submit(extentTest -> extentTest.warning(message));
+    }
+    
+    /**
+     * Log a block of preformatted text
+     * @param code Text shown verbatim
+     */
+    public static void logCodeBlock(String code) {
+        logMarkup(Status.INFO, MarkupHelper.createCodeBlock(code));
+    }
+    
+    /**
+     * Log markup such as a code block, label or table
+     * @param status Log status
+     * @param markup Markup rendered as HTML
+     */
+    public static void logMarkup(Status status, Markup markup) {
+        submit(extentTest -> {
+            List<Log> logs = extentTest.log(status, markup).getModel().getLogs();
+            ReportStore.flagMarkup(logs.get(logs.size() - 1));
+        });
     }
     
     /**
@@ -160,12 +303,14 @@ public class ExtentReportManager {
      * @param message Screenshot message
      */
     public static void addScreenshot(String screenshotPath, String message) {
-        if (Objects.nonNull(getTest()) && Objects.nonNull(screenshotPath)) {
-            try {
-                getTest().addScreenCaptureFromPath(screenshotPath, message);
-            } catch (Exception e) {
-                logger.error("Failed to add screenshot to ExtentReports", e);
-            }
+        if (Objects.nonNull(screenshotPath)) {
+            submit(extentTest -> {
+                try {
+                    extentTest.addScreenCaptureFromPath(screenshotPath, message);
+                } catch (Exception e) {
+                    logger.error("Failed to add screenshot to ExtentReports", e);
+                }
+            });
         }
     }
     
@@ -174,12 +319,14 @@ public class ExtentReportManager {
      * @param screenshotPath Screenshot path
      */
     public static void addScreenshotOnFailure(String screenshotPath) {
-        if (Objects.nonNull(getTest()) && Objects.nonNull(screenshotPath)) {
-            try {
-                getTest().fail("Test failed - Screenshot attached").addScreenCaptureFromPath(screenshotPath);
-            } catch (Exception e) {
-                logger.error("Failed to add failure screenshot to ExtentReports", e);
-            }
+        if (Objects.nonNull(screenshotPath)) {
+            submit(extentTest -> {
+                try {
+                    extentTest.fail("Test failed - Screenshot attached").addScreenCaptureFromPath(screenshotPath);
+                } catch (Exception e) {
+                    logger.error("Failed to add failure screenshot to ExtentReports", e);
+                }
+            });
         }
     }
     
@@ -188,29 +335,76 @@ public class ExtentReportManager {
      * @param screenshotPath Screenshot path
      */
     public static void addScreenshotOnPass(String screenshotPath) {
-        if (Objects.nonNull(getTest()) && Objects.nonNull(screenshotPath)) {
-            try {
-                getTest().pass("Test passed - Screenshot attached").addScreenCaptureFromPath(screenshotPath);
-            } catch (Exception e) {
-                logger.error("Failed to add pass screenshot to ExtentReports", e);
-            }
+        if (Objects.nonNull(screenshotPath)) {
+            submit(extentTest -> {
+                try {
+                    extentTest.pass("Test passed - Screenshot attached").addScreenCaptureFromPath(screenshotPath);
+                } catch (Exception e) {
+                    logger.error("Failed to add pass screenshot to ExtentReports", e);
+                }
+            });
         }
     }
     
+    /**
+     * Add a screenshot that is still being written; it is attached once the report is flushed
+     * @param screenshot Future of the screenshot path
+     * @param message Screenshot message
+     */
+    public static void addScreenshot(CompletableFuture<String> screenshot, String message) {
+        deferScreenshot(screenshot, null, message);
+    }
+    
+    /**
+     * Add a screenshot that is still being written to the failed test
+     * @param screenshot Future of the screenshot path
+     */
+    public static void addScreenshotOnFailure(CompletableFuture<String> screenshot) {
+        deferScreenshot(screenshot, Status.FAIL, "Test failed - Screenshot attached");
+    }
+    
+    /**
+     * Add a screenshot that is still being written to the passed test
+     * @param screenshot Future of the screenshot path
+     */
+    public static void addScreenshotOnPass(CompletableFuture<String> screenshot) {
+        deferScreenshot(screenshot, Status.PASS, "Test passed - Screenshot attached");
+    }
+    
     /**
      * Flush ExtentReports
      */
     public static void flushReports() {
         if (Objects.nonNull(extent)) {
-            extent.flush();
+            drain();
+            resolveScreenshots(null);
+            if (incremental) {
+                // Tests never released, e.g. those not run through BaseTest, are stored now
+                for (ExtentTest extentTest : new ArrayList<>(liveTests)) {
+                    storeTest(extentTest);
+                }
+                ReportStore.render(ConfigReader.getExtentReportPath(), ConfigReader.getExtentReportTitle(),
+                        ConfigReader.getExtentReportName(), systemInfo);
+            } else {
+                extent.flush();
+            }
             logger.info("ExtentReports flushed successfully");
         }
     }
     
     /**
-     * Remove test from ThreadLocal
+     * Remove test from ThreadLocal, moving it to the report store in incremental mode
      */
     public static void removeTest() {
+        Long id = testId.get();
+        if (Objects.nonNull(id)) {
+            // Let the consumer forget the node once everything logged before this point is applied
+            enqueue(new ReportEvent(id, null, null));
+            testId.remove();
+        }
+        if (incremental && Objects.nonNull(test.get())) {
+            storeTest(test.get());
+        }
         test.remove();
     }
     
@@ -223,12 +417,172 @@ public class ExtentReportManager {
     }
     
     /**
-     * Clean up ExtentReports
+     * Clean up ExtentReports, stopping the asynchronous consumer once the queue is applied
      */
     public static void cleanup() {
+        removeTest();
+        drain();
+        stopConsumer();
         if (Objects.nonNull(extent)) {
             extent = null;
         }
-        removeTest();
+    }
+    
+    /**
+     * Record a screenshot future against the current test node
+     * @param screenshot Future of the screenshot path
+     * @param status Log status of the attachment, or null for a plain screenshot
+     * @param message Attachment message
+     */
+    private static void deferScreenshot(CompletableFuture<String> screenshot, Status status, String message) {
+        submit(extentTest -> pendingScreenshots.add(new PendingScreenshot(extentTest, screenshot, status, message)));
+    }
+    
+    /**
+     * Wait for pending screenshot writes and attach them to their tests
+     * @param owner Only resolve this test's screenshots, or null for all
+     */
+    private static void resolveScreenshots(ExtentTest owner) {
+        for (PendingScreenshot pending : pendingScreenshots) {
+            if ((Objects.nonNull(owner) && pending.extentTest != owner) || !pendingScreenshots.remove(pending)) {
+                continue;
+            }
+            try {
+                String screenshotPath = pending.screenshot.join();
+                if (Objects.isNull(screenshotPath)) {
+                    continue;
+                }
+                if (Objects.isNull(pending.status)) {
+                    pending.extentTest.addScreenCaptureFromPath(screenshotPath, pending.message);
+                } else {
+                    pending.extentTest.log(pending.status, pending.message).addScreenCaptureFromPath(screenshotPath);
+                }
+            } catch (Exception e) {
+                logger.error("Failed to add screenshot to ExtentReports", e);
+            }
+        }
+    }
+    
+    /**
+     * Apply an action to the current test node, directly or through the event queue
+     * @param action Report update
+     */
+    private static void submit(Consumer<ExtentTest> action) {
+        if (async) {
+            Long id = testId.get();
+            if (Objects.nonNull(id)) {
+                enqueue(new ReportEvent(id, null, action));
+            }
+        } else if (Objects.nonNull(test.get())) {
+            action.accept(test.get());
+        }
+    }
+    
+    /**
+     * Queue an event, blocking while the queue is at capacity
+     * @param event Report event
+     * @return False if the event was not queued
+     */
+    private static boolean enqueue(ReportEvent event) {
+        BlockingQueue<ReportEvent> queue = events;
+        if (Objects.isNull(queue)) {
+            return false;
+        }
+        try {
+            queue.put(event);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Interrupted while queueing report event for test " + event.testId);
+            return false;
+        }
+    }
+    
+    /**
+     * Start the single consumer applying queued events
+     */
+    private static synchronized void startConsumer() {
+        if (Objects.nonNull(consumer)) {
+            return;
+        }
+        
+        int queueCapacity = ConfigReader.getReportQueueCapacity();
+        events = new LinkedBlockingQueue<>(queueCapacity);
+        async = true;
+        consumer = new Thread(ExtentReportManager::consumeEvents, "extent-report-consumer");
+        consumer.setDaemon(true);
+        consumer.start();
+        logger.info("Asynchronous report logging started with queue capacity " + queueCapacity);
+    }
+    
+    /**
+     * Stop the consumer after the events already queued, and fall back to synchronous logging
+     */
+    private static synchronized void stopConsumer() {
+        if (Objects.isNull(consumer)) {
+            return;
+        }
+        try {
+            events.put(STOP);
+            consumer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        async = false;
+        events = null;
+        consumer = null;
+    }
+    
+    /**
+     * Consumer loop: apply events in queue order until the stop event
+     */
+    private static void consumeEvents() {
+        BlockingQueue<ReportEvent> queue = events;
+        while (true) {
+            ReportEvent event;
+            try {
+                event = queue.take();
+            } catch (InterruptedException e) {
+                logger.warn("Report consumer interrupted, " + queue.size() + " events not applied");
+                return;
+            }
+            if (event == STOP) {
+                return;
+            }
+            try {
+                if (Objects.nonNull(event.barrier)) {
+                    event.barrier.complete(null);
+                } else if (Objects.nonNull(event.creation)) {
+                    event.creation.run();
+                } else if (Objects.nonNull(event.action)) {
+                    ExtentTest extentTest = nodes.get(event.testId);
+                    if (Objects.nonNull(extentTest)) {
+                        event.action.accept(extentTest);
+                    }
+                } else {
+                    ExtentTest released = nodes.remove(event.testId);
+                    if (incremental && Objects.nonNull(released)) {
+                        storeTest(released);
+                    }
+                }
+            } catch (Throwable t) {
+                // Keep consuming: a dead consumer would block every producer once the queue is full
+                logger.error("Failed to apply report event for test " + event.testId, t);
+            }
+        }
+    }
+    
+    /**
+     * Wait until every event this thread queued so far has been applied. Events other threads
+     * queue afterwards are not waited for.
+     */
+    private static void drain() {
+        if (!async || Thread.currentThread() == consumer) {
+            return;
+        }
+        CompletableFuture<Void> barrier = new CompletableFuture<>();
+        if (enqueue(new ReportEvent(0, null, null, barrier))) {
+            barrier.join();
+        }
     }
 }
\ No newline at end of file
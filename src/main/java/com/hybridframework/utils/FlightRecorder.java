@@ -0,0 +1,176 @@
+package com.hybridframework.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.logging.LogEntry;
+import org.openqa.selenium.logging.LogType;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-thread flight recorder of the last WebDriver commands. Drivers are decorated so every
+ * command is written into a fixed-size ring buffer of the calling thread: start time, duration,
+ * command, target and arguments (e.g. the locator), and whether it failed. Recording only stores
+ * references into preallocated arrays; text is built when a failed test dumps the buffer,
+ * together with the last browser console entries. Passing tests never pay for formatting.
+ */
+public class FlightRecorder {
+
+    private static final Logger logger = LogManager.getLogger(FlightRecorder.class);
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+    private static final ThreadLocal<FlightRecorder> recorder = ThreadLocal.withInitial(
+            () -> new FlightRecorder(ConfigReader.getFlightRecorderSize()));
+
+    private final long[] startMillis;
+    private final long[] durationNanos;
+    private final String[] commands;
+    private final Object[] targets;
+    private final Object[][] arguments;
+    private final boolean[] failed;
+    private long count;
+    private long pendingStart;
+
+    private FlightRecorder(int size) {
+        int capacity = Math.max(1, size);
+        this.startMillis = new long[capacity];
+        this.durationNanos = new long[capacity];
+        this.commands = new String[capacity];
+        this.targets = new Object[capacity];
+        this.arguments = new Object[capacity][];
+        this.failed = new boolean[capacity];
+    }
+
+    /**
+     * Records the commands of a decorated driver on the calling thread
+     */
+    private static final class Listener implements WebDriverListener {
+
+        @Override
+        public void beforeAnyCall(Object target, Method method, Object[] args) {
+            recorder.get().pendingStart = System.nanoTime();
+        }
+
+        @Override
+        public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+            recorder.get().record(method.getName(), target, args, false);
+        }
+
+        @Override
+        public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+            recorder.get().record(method.getName(), target, args, true);
+        }
+    }
+
+    /**
+     * Decorate a driver so its commands are recorded
+     * @param driver WebDriver
+     * @return Decorated driver
+     */
+    public static WebDriver decorate(WebDriver driver) {
+        return new EventFiringDecorator<>(new Listener()).decorate(driver);
+    }
+
+    /**
+     * Start with an empty buffer for the next test on this thread
+     */
+    public static void clear() {
+        FlightRecorder current = recorder.get();
+        Arrays.fill(current.targets, null);
+        Arrays.fill(current.arguments, null);
+        current.count = 0;
+    }
+
+    /**
+     * Get the recorded commands of this thread, oldest first
+     * @return One line per command
+     */
+    public static List<String> getCommands() {
+        FlightRecorder current = recorder.get();
+        int capacity = current.commands.length;
+        int size = (int) Math.min(current.count, capacity);
+        long first = current.count - size;
+
+        // Copy before formatting: formatting a decorated element may itself be recorded
+        long[] starts = new long[size];
+        long[] durations = new long[size];
+        String[] names = new String[size];
+        Object[] targets = new Object[size];
+        Object[][] args = new Object[size][];
+        boolean[] failures = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            int slot = (int) ((first + i) % capacity);
+            starts[i] = current.startMillis[slot];
+            durations[i] = current.durationNanos[slot];
+            names[i] = current.commands[slot];
+            targets[i] = current.targets[slot];
+            args[i] = current.arguments[slot];
+            failures[i] = current.failed[slot];
+        }
+
+        List<String> lines = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            StringBuilder line = new StringBuilder()
+                    .append(TIME_FORMAT.format(Instant.ofEpochMilli(starts[i])))
+                    .append(String.format(" %6d ms ", TimeUnit.NANOSECONDS.toMillis(durations[i])))
+                    .append(failures[i] ? "FAILED " : "")
+                    .append(names[i]);
+            if (Objects.nonNull(args[i]) && args[i].length > 0) {
+                line.append(' ').append(Arrays.deepToString(args[i]));
+            }
+            if (!(targets[i] instanceof WebDriver)) {
+                line.append(" on ").append(targets[i]);
+            }
+            lines.add(line.toString());
+        }
+        return lines;
+    }
+
+    /**
+     * Get the last browser console entries of a driver, if the browser exposes them
+     * @param driver WebDriver
+     * @return One line per console entry, empty if unsupported
+     */
+    public static List<String> getConsoleEntries(WebDriver driver) {
+        List<String> lines = new ArrayList<>();
+        if (Objects.isNull(driver)) {
+            return lines;
+        }
+        try {
+            List<LogEntry> entries = driver.manage().logs().get(LogType.BROWSER).getAll();
+            int limit = ConfigReader.getFlightRecorderConsoleEntries();
+            for (LogEntry entry : entries.subList(Math.max(0, entries.size() - limit), entries.size())) {
+                lines.add(TIME_FORMAT.format(Instant.ofEpochMilli(entry.getTimestamp())) + " " + entry.getLevel() + " " + entry.getMessage());
+            }
+        } catch (RuntimeException e) {
+            logger.debug("Browser console entries not available: " + e.getMessage());
+        }
+        return lines;
+    }
+
+    /**
+     * Write a command into the next slot, overwriting the oldest one when full
+     */
+    private void record(String command, Object target, Object[] args, boolean failure) {
+        long now = System.nanoTime();
+        int slot = (int) (count % commands.length);
+        durationNanos[slot] = now - pendingStart;
+        startMillis[slot] = System.currentTimeMillis() - TimeUnit.NANOSECONDS.toMillis(durationNanos[slot]);
+        commands[slot] = command;
+        targets[slot] = target;
+        arguments[slot] = args;
+        failed[slot] = failure;
+        count++;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,174 @@
+package com.hybridframework.utils;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Streaming JSON test data reader built on Jackson's token parser. Records of the array under
+ * a data key are parsed one at a time as the iterator advances, so no tree of the whole file
+ * is built and memory stays flat however large the file is. Values are converted the same way
+ * as {@link JsonUtils#getTestDataFromJson(String, String)}; nested objects and arrays become "".
+ *
+ * <pre>
+ * &#64;DataProvider(name = "generatedUsers")
+ * public Iterator&lt;Object[]&gt; generatedUsers() {
+ *     return JsonStreamReader.streamDataProvider(filePath, "users");
+ * }
+ * </pre>
+ */
+public class JsonStreamReader implements Iterator<Map<String, String>>, AutoCloseable {
+
+    private static final Logger logger = LogManager.getLogger(JsonStreamReader.class);
+    private static final JsonFactory jsonFactory = new JsonFactory();
+
+    private final String filePath;
+    private final String dataKey;
+    private JsonParser parser;
+    private boolean finished;
+    private Map<String, String> next;
+
+    private JsonStreamReader(String filePath, String dataKey) {
+        this.filePath = filePath;
+        this.dataKey = dataKey;
+    }
+
+    /**
+     * Stream records of the array under a data key
+     * @param filePath JSON file path
+     * @param dataKey Top-level key of the data array
+     * @return Lazy record iterator; close it if iteration is abandoned early
+     */
+    public static JsonStreamReader streamRows(String filePath, String dataKey) {
+        return new JsonStreamReader(filePath, dataKey);
+    }
+
+    /**
+     * Stream records as TestNG data provider parameters ({recordMap} per record)
+     * @param filePath JSON file path
+     * @param dataKey Top-level key of the data array
+     * @return Lazy data provider iterator
+     */
+    public static Iterator<Object[]> streamDataProvider(String filePath, String dataKey) {
+        JsonStreamReader rows = streamRows(filePath, dataKey);
+        return new Iterator<Object[]>() {
+            @Override
+            public boolean hasNext() {
+                return rows.hasNext();
+            }
+
+            @Override
+            public Object[] next() {
+                return new Object[]{rows.next()};
+            }
+        };
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (Objects.isNull(next) && !finished) {
+            try {
+                if (Objects.isNull(parser)) {
+                    parser = jsonFactory.createParser(new File(filePath));
+                    seekDataArray();
+                }
+                next = readRecord();
+            } catch (IOException e) {
+                close();
+                logger.error("Failed to stream JSON file: " + filePath, e);
+                throw new RuntimeException("Failed to stream JSON file: " + filePath, e);
+            } catch (RuntimeException e) {
+                close();
+                throw e;
+            }
+        }
+        return Objects.nonNull(next);
+    }
+
+    @Override
+    public Map<String, String> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more records under data key: " + dataKey);
+        }
+        Map<String, String> record = next;
+        next = null;
+        return record;
+    }
+
+    @Override
+    public void close() {
+        finished = true;
+        if (Objects.nonNull(parser)) {
+            try {
+                parser.close();
+            } catch (IOException e) {
+                logger.warn("Failed to close JSON stream: " + filePath, e);
+            }
+        }
+    }
+
+    /**
+     * Advance the parser to the start of the array under the data key, skipping other keys
+     */
+    private void seekDataArray() throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IllegalArgumentException("JSON file does not contain an object at the root: " + filePath);
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (dataKey.equals(fieldName)) {
+                if (valueToken != JsonToken.START_ARRAY) {
+                    throw new IllegalArgumentException("Data key '" + dataKey + "' is not an array in JSON file: " + filePath);
+                }
+                return;
+            }
+            parser.skipChildren();
+        }
+        throw new IllegalArgumentException("Data key '" + dataKey + "' not found in JSON file: " + filePath);
+    }
+
+    /**
+     * Read the next array element
+     * @return Record map or null at the end of the array
+     */
+    private Map<String, String> readRecord() throws IOException {
+        JsonToken token = parser.nextToken();
+        if (Objects.isNull(token) || token == JsonToken.END_ARRAY) {
+            close();
+            logger.info("Finished streaming JSON data: " + dataKey + " (" + filePath + ")");
+            return null;
+        }
+
+        Map<String, String> record = new LinkedHashMap<>();
+        if (token != JsonToken.START_OBJECT) {
+            // Non-object elements carry no fields
+            parser.skipChildren();
+            return Collections.unmodifiableMap(record);
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (valueToken.isScalarValue()) {
+                record.put(fieldName, parser.getText());
+            } else {
+                parser.skipChildren();
+                record.put(fieldName, "");
+            }
+        }
+        return Collections.unmodifiableMap(record);
+    }
+}
\ No newline at end of file
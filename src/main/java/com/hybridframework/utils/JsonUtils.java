@@ -10,6 +10,8 @@ import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -45,37 +47,42 @@ public class JsonUtils {
      * @return List of test data maps
      */
     public static List<Map<String, String>> getTestDataFromJson(String filePath, String dataKey) {
-        List<Map<String, String>> testDataList = new ArrayList<>();
-        
         try {
-            JsonNode rootNode = readJsonFile(filePath);
-            JsonNode dataNode = rootNode.get(dataKey);
-            
-            if (dataNode == null || !dataNode.isArray()) {
-                logger.error("Data key '" + dataKey + "' not found or not an array in JSON file: " + filePath);
-                return testDataList;
-            }
-            
-            for (JsonNode node : dataNode) {
-                Map<String, String> testData = new HashMap<>();
-                
-                // Convert JsonNode to Map
-                node.fields().forEachRemaining(entry -> {
-                    String key = entry.getKey();
-                    String value = entry.getValue().asText();
-                    testData.put(key, value);
-                });
-                
-                testDataList.add(testData);
-            }
-            
+            List<Map<String, String>> testDataList = getTestDataTable(filePath, dataKey).asMaps();
             logger.info("Retrieved " + testDataList.size() + " test data records from JSON file");
+            return testDataList;
             
         } catch (Exception e) {
             logger.error("Error getting test data from JSON file: " + filePath, e);
         }
         
-        return testDataList;
+        return new ArrayList<>();
+    }
+    
+    /**
+     * Get test data from JSON file as a compact shared-schema table
+     * @param filePath JSON file path
+     * @param dataKey Data key in JSON
+     * @return Immutable test data table
+     */
+    public static TestDataTable getTestDataTable(String filePath, String dataKey) {
+        return CompiledTestData.load(new File(filePath), dataKey, () -> {
+            TestDataTable.Builder table = TestDataTable.builder();
+            try (JsonStreamReader records = JsonStreamReader.streamRows(filePath, dataKey)) {
+                records.forEachRemaining(table::addRow);
+            }
+            return table.build();
+        });
+    }
+    
+    /**
+     * Stream test data from JSON file as data provider parameters, without loading the whole file
+     * @param filePath JSON file path
+     * @param dataKey Data key in JSON
+     * @return Lazy iterator of {testDataMap} rows
+     */
+    public static Iterator<Object[]> streamTestData(String filePath, String dataKey) {
+        return JsonStreamReader.streamDataProvider(filePath, dataKey);
     }
     
     /**
@@ -86,13 +93,11 @@ public class JsonUtils {
      * @return Test data map
      */
     public static Map<String, String> getTestDataByTestCase(String filePath, String dataKey, String testCaseName) {
-        List<Map<String, String>> allTestData = getTestDataFromJson(filePath, dataKey);
+        Map<String, String> testData = TestDataIndex.lookup(filePath, dataKey, FrameworkConstants.JSON_TEST_CASE_COLUMN, testCaseName);
         
-        for (Map<String, String> testData : allTestData) {
-            if (testData.containsKey("testCase") && testData.get("testCase").equals(testCaseName)) {
-                logger.info("Test data found for test case: " + testCaseName);
-                return testData;
-            }
+        if (testData != null) {
+            logger.info("Test data found for test case: " + testCaseName);
+            return testData;
         }
         
         logger.warn("No test data found for test case: " + testCaseName);
@@ -105,7 +110,7 @@ public class JsonUtils {
      */
     public static List<Map<String, String>> getLoginTestDataFromJson() {
         String filePath = ConfigReader.getTestDataPath() + FrameworkConstants.JSON_TEST_DATA;
-        return getTestDataFromJson(filePath, "loginTestData");
+        return getTestDataFromJson(filePath, FrameworkConstants.LOGIN_TEST_DATA_KEY);
     }
     
     /**
@@ -115,7 +120,44 @@ public class JsonUtils {
      */
     public static Map<String, String> getLoginTestDataByTestCase(String testCaseName) {
         String filePath = ConfigReader.getTestDataPath() + FrameworkConstants.JSON_TEST_DATA;
-        return getTestDataByTestCase(filePath, "loginTestData", testCaseName);
+        return getTestDataByTestCase(filePath, FrameworkConstants.LOGIN_TEST_DATA_KEY, testCaseName);
+    }
+    
+    /**
+     * Get value classes declared for pairwise generation: an object mapping each parameter to
+     * an array of classes, each with "class", "value" and "valid" fields
+     * @param filePath JSON file path
+     * @param dataKey Data key in JSON
+     * @return Value classes by parameter name, in declaration order
+     */
+    public static Map<String, List<Map<String, String>>> getValueClassesFromJson(String filePath, String dataKey) {
+        JsonNode dataNode = readJsonFile(filePath).get(dataKey);
+        if (dataNode == null || !dataNode.isObject()) {
+            throw new IllegalArgumentException("Data key '" + dataKey + "' not found or not an object in JSON file: " + filePath);
+        }
+        
+        Map<String, List<Map<String, String>>> valueClasses = new LinkedHashMap<>();
+        dataNode.fields().forEachRemaining(parameter -> {
+            List<Map<String, String>> classes = new ArrayList<>();
+            for (JsonNode classNode : parameter.getValue()) {
+                Map<String, String> valueClass = new LinkedHashMap<>();
+                classNode.fields().forEachRemaining(field -> valueClass.put(field.getKey(), field.getValue().asText()));
+                classes.add(valueClass);
+            }
+            valueClasses.put(parameter.getKey(), classes);
+        });
+        
+        logger.info("Retrieved value classes for " + valueClasses.size() + " parameters from JSON file");
+        return valueClasses;
+    }
+    
+    /**
+     * Get pairwise login test data generated from the login value classes
+     * @return Pairwise login test data
+     */
+    public static List<Map<String, String>> getPairwiseLoginTestData() {
+        String filePath = ConfigReader.getTestDataPath() + FrameworkConstants.JSON_TEST_DATA;
+        return PairwiseGenerator.generateTestData(getValueClassesFromJson(filePath, FrameworkConstants.LOGIN_INPUT_CLASSES_KEY));
     }
     
     /**
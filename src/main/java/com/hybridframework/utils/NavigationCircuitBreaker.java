@@ -0,0 +1,89 @@
+package com.hybridframework.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.SkipException;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Circuit breaker that opens after consecutive navigation failures (or a failed pre-flight
+ * probe) so remaining tests are skipped, with the cause, instead of each waiting out the
+ * page load timeout
+ */
+public class NavigationCircuitBreaker {
+
+    private static final Logger logger = LogManager.getLogger(NavigationCircuitBreaker.class);
+    private static final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private static volatile String openCause;
+    private static volatile Throwable openFailure;
+
+    /**
+     * Fail fast if the circuit is open
+     * @throws SkipException carrying the failure that opened the circuit, if the circuit is open
+     */
+    public static void ensureClosed() {
+        String cause = openCause;
+        if (Objects.nonNull(cause)) {
+            throw new SkipException("Circuit breaker open, environment unavailable: " + cause, openFailure);
+        }
+    }
+
+    /**
+     * Check if the circuit is open
+     * @return True if the circuit is open
+     */
+    public static boolean isOpen() {
+        return Objects.nonNull(openCause);
+    }
+
+    /**
+     * Record a successful navigation
+     */
+    public static void recordSuccess() {
+        consecutiveFailures.set(0);
+    }
+
+    /**
+     * Record a failed navigation, opening the circuit once the threshold is reached
+     * @param url URL that failed to load
+     * @param e Failure
+     */
+    public static void recordFailure(String url, Exception e) {
+        int failures = consecutiveFailures.incrementAndGet();
+        if (failures >= ConfigReader.getCircuitBreakerThreshold()) {
+            trip(failures + " consecutive navigation failures, last: " + url + " - " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Open the circuit
+     * @param cause Reason the environment is considered unavailable
+     */
+    public static void trip(String cause) {
+        trip(cause, null);
+    }
+
+    /**
+     * Open the circuit
+     * @param cause Reason the environment is considered unavailable
+     * @param failure Failure that opened the circuit, or null
+     */
+    public static synchronized void trip(String cause, Throwable failure) {
+        if (Objects.isNull(openCause)) {
+            openFailure = failure;
+            openCause = cause;
+            logger.error("Circuit breaker opened: " + cause);
+        }
+    }
+
+    /**
+     * Close the circuit and reset the failure count
+     */
+    public static synchronized void reset() {
+        openCause = null;
+        openFailure = null;
+        consecutiveFailures.set(0);
+    }
+}
\ No newline at end of file
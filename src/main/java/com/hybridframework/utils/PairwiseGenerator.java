@@ -0,0 +1,177 @@
+package com.hybridframework.utils;
+
+import com.hybridframework.constants.FrameworkConstants;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pairwise (all-pairs) test case generator. Given the value classes of each input parameter,
+ * it builds a small set of cases in which every pair of values of any two parameters appears
+ * at least once, using the greedy in-parameter-order strategy. The case count grows with the
+ * product of the two largest parameters instead of the product of all of them.
+ */
+public class PairwiseGenerator {
+
+    private static final Logger logger = LogManager.getLogger(PairwiseGenerator.class);
+    private static final int DONT_CARE = -1;
+
+    /**
+     * Generate a pairwise-covering set of cases
+     * @param parameters Candidate values by parameter name, in parameter order
+     * @param <V> Value type
+     * @return Cases as parameter name to value maps
+     */
+    public static <V> List<Map<String, V>> generate(Map<String, List<V>> parameters) {
+        List<String> names = new ArrayList<>(parameters.keySet());
+        int[] sizes = new int[names.size()];
+        for (int p = 0; p < names.size(); p++) {
+            sizes[p] = parameters.get(names.get(p)).size();
+            if (sizes[p] == 0) {
+                throw new IllegalArgumentException("Parameter '" + names.get(p) + "' has no values");
+            }
+        }
+
+        List<Map<String, V>> cases = new ArrayList<>();
+        for (int[] test : generateIndexes(sizes)) {
+            Map<String, V> testCase = new LinkedHashMap<>();
+            for (int p = 0; p < names.size(); p++) {
+                // Slots no pair depends on can take any value
+                testCase.put(names.get(p), parameters.get(names.get(p)).get(Math.max(test[p], 0)));
+            }
+            cases.add(testCase);
+        }
+
+        logger.info("Generated " + cases.size() + " pairwise cases for " + names.size() + " parameters");
+        return cases;
+    }
+
+    /**
+     * Generate pairwise test data rows from declared value classes. Each class is a map with
+     * "class" (name), "value" and "valid"; a row expects Success only if all its classes are valid.
+     * @param valueClasses Value classes by parameter name, e.g. from {@link JsonUtils#getValueClassesFromJson}
+     * @return Rows with testCase, one entry per parameter, expectedResult and description
+     */
+    public static List<Map<String, String>> generateTestData(Map<String, List<Map<String, String>>> valueClasses) {
+        List<Map<String, String>> rows = new ArrayList<>();
+        for (Map<String, Map<String, String>> combination : generate(valueClasses)) {
+            Map<String, String> row = new LinkedHashMap<>();
+            StringBuilder testCase = new StringBuilder("Pairwise");
+            List<String> descriptions = new ArrayList<>();
+            boolean valid = true;
+            for (Map.Entry<String, Map<String, String>> parameter : combination.entrySet()) {
+                Map<String, String> valueClass = parameter.getValue();
+                row.put(parameter.getKey(), valueClass.getOrDefault("value", ""));
+                testCase.append('_').append(parameter.getKey()).append('-').append(valueClass.get("class"));
+                descriptions.add(valueClass.get("class") + " " + parameter.getKey());
+                valid &= Boolean.parseBoolean(valueClass.get("valid"));
+            }
+            row.put(FrameworkConstants.JSON_TEST_CASE_COLUMN, testCase.toString());
+            row.put("expectedResult", valid ? "Success" : "Failure");
+            row.put("description", "Login with " + String.join(", ", descriptions));
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    /**
+     * Generate pairwise cases as value index arrays
+     * @param sizes Number of values of each parameter
+     * @return Cases; DONT_CARE marks slots free to take any value
+     */
+    private static List<int[]> generateIndexes(int[] sizes) {
+        int count = sizes.length;
+        List<int[]> tests = new ArrayList<>();
+        if (count == 0) {
+            return tests;
+        }
+        if (count == 1) {
+            for (int v = 0; v < sizes[0]; v++) {
+                tests.add(new int[]{v});
+            }
+            return tests;
+        }
+
+        // Start with every combination of the first two parameters
+        for (int a = 0; a < sizes[0]; a++) {
+            for (int b = 0; b < sizes[1]; b++) {
+                int[] test = new int[count];
+                Arrays.fill(test, DONT_CARE);
+                test[0] = a;
+                test[1] = b;
+                tests.add(test);
+            }
+        }
+
+        for (int k = 2; k < count; k++) {
+            // uncovered[i][vi][vk]: value vi of parameter i not yet paired with value vk of parameter k
+            boolean[][][] uncovered = new boolean[k][][];
+            for (int i = 0; i < k; i++) {
+                uncovered[i] = new boolean[sizes[i]][sizes[k]];
+                for (boolean[] row : uncovered[i]) {
+                    Arrays.fill(row, true);
+                }
+            }
+
+            // Horizontal growth: give each existing test the value of k covering the most new pairs
+            for (int[] test : tests) {
+                int bestValue = 0;
+                int bestGain = -1;
+                for (int vk = 0; vk < sizes[k]; vk++) {
+                    int gain = 0;
+                    for (int i = 0; i < k; i++) {
+                        if (test[i] != DONT_CARE && uncovered[i][test[i]][vk]) {
+                            gain++;
+                        }
+                    }
+                    if (gain > bestGain) {
+                        bestGain = gain;
+                        bestValue = vk;
+                    }
+                }
+                test[k] = bestValue;
+                markCovered(test, k, uncovered);
+            }
+
+            // Vertical growth: cover what is left, filling free slots before adding tests
+            for (int i = 0; i < k; i++) {
+                for (int vi = 0; vi < sizes[i]; vi++) {
+                    for (int vk = 0; vk < sizes[k]; vk++) {
+                        if (!uncovered[i][vi][vk]) {
+                            continue;
+                        }
+                        int[] target = null;
+                        for (int[] test : tests) {
+                            if (test[k] == vk && test[i] == DONT_CARE) {
+                                target = test;
+                                break;
+                            }
+                        }
+                        if (target == null) {
+                            target = new int[count];
+                            Arrays.fill(target, DONT_CARE);
+                            target[k] = vk;
+                            tests.add(target);
+                        }
+                        target[i] = vi;
+                        markCovered(target, k, uncovered);
+                    }
+                }
+            }
+        }
+        return tests;
+    }
+
+    private static void markCovered(int[] test, int k, boolean[][][] uncovered) {
+        for (int i = 0; i < k; i++) {
+            if (test[i] != DONT_CARE) {
+                uncovered[i][test[i]][test[k]] = false;
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,302 @@
+package com.hybridframework.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.hybridframework.constants.FrameworkConstants;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.ITestResult;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Per-test phase timing. Hooks in BaseTest, DriverManager, BasePage and WebDriverUtils enter a
+ * phase for the duration of a scope; time is charged to the innermost open phase only, so a
+ * wait inside a click counts as wait, not action, and the phases of a test add up to its wall
+ * time. Time outside any phase is charged to OTHER (test logic). At suite end the run is
+ * exported as JSON, an HTML view compares the phase totals of the last runs and, with
+ * history.enabled, the run is appended to the {@link ResultHistoryStore}.
+ *
+ * <pre>
+ * try (PhaseTimer.Scope ignored = PhaseTimer.enter(PhaseTimer.Phase.WAIT)) {
+ *     return wait.until(condition);
+ * }
+ * </pre>
+ *
+ * The scope is never referenced in the try body, so classes using this idiom declare
+ * {@code @SuppressWarnings("try")}.
+ */
+public class PhaseTimer {
+
+    private static final Logger logger = LogManager.getLogger(PhaseTimer.class);
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final ThreadLocal<TestTiming> timing = new ThreadLocal<>();
+    private static final Queue<ObjectNode> finishedTests = new ConcurrentLinkedQueue<>();
+    private static final Scope NO_SCOPE = new Scope(null, null);
+
+    /**
+     * Phases a test's wall time is split into
+     */
+    public enum Phase {
+        DRIVER_ACQUIRE,
+        NAVIGATION,
+        PAGE_OBJECT,
+        ACTION,
+        WAIT,
+        SLEEP,
+        SCREENSHOT,
+        TEARDOWN,
+        OTHER
+    }
+
+    /**
+     * Open phase; closing it returns to the enclosing phase
+     */
+    public static final class Scope implements AutoCloseable {
+        private final TestTiming owner;
+        private final Phase previous;
+
+        private Scope(TestTiming owner, Phase previous) {
+            this.owner = owner;
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (Objects.nonNull(owner)) {
+                owner.switchTo(previous);
+            }
+        }
+    }
+
+    /**
+     * Phase durations of the test running on one thread
+     */
+    private static final class TestTiming {
+        private final long[] nanos = new long[Phase.values().length];
+        private final long started = System.nanoTime();
+        private Phase current = Phase.OTHER;
+        private long since = started;
+
+        /**
+         * Charge the time since the last switch to the current phase and make another phase current
+         * @param phase New current phase
+         * @return Previous current phase
+         */
+        private Phase switchTo(Phase phase) {
+            long now = System.nanoTime();
+            nanos[current.ordinal()] += now - since;
+            since = now;
+            Phase previous = current;
+            current = phase;
+            return previous;
+        }
+    }
+
+    /**
+     * Start timing the test about to run on this thread
+     */
+    public static void begin() {
+        if (ConfigReader.isPhaseTimingEnabled()) {
+            timing.set(new TestTiming());
+        } else {
+            timing.remove();
+        }
+    }
+
+    /**
+     * Enter a phase until the returned scope is closed
+     * @param phase Phase
+     * @return Scope to close, a no-op when no test is being timed
+     */
+    public static Scope enter(Phase phase) {
+        TestTiming testTiming = timing.get();
+        if (Objects.isNull(testTiming)) {
+            return NO_SCOPE;
+        }
+        return new Scope(testTiming, testTiming.switchTo(phase));
+    }
+
+    /**
+     * Stop timing the test on this thread and record its breakdown
+     * @param result Test result
+     * @param testName Name to record the test under
+     */
+    public static void finish(ITestResult result, String testName) {
+        TestTiming testTiming = timing.get();
+        timing.remove();
+        if (Objects.isNull(testTiming)) {
+            return;
+        }
+        testTiming.switchTo(Phase.OTHER);
+
+        ObjectNode test = mapper.createObjectNode();
+        test.put("name", testName);
+        test.put("status", getStatus(result));
+        test.put("totalMs", TimeUnit.NANOSECONDS.toMillis(testTiming.since - testTiming.started));
+        ObjectNode phases = test.putObject("phases");
+        for (Phase phase : Phase.values()) {
+            phases.put(phase.name(), TimeUnit.NANOSECONDS.toMillis(testTiming.nanos[phase.ordinal()]));
+        }
+        finishedTests.add(test);
+    }
+
+    /**
+     * Export the recorded tests of this run to the configured directory, refresh the trend view
+     * and record the run in the result history
+     */
+    public static void export() {
+        if (!ConfigReader.isPhaseTimingEnabled()) {
+            return;
+        }
+        File runFile = export(ConfigReader.getPhaseTimingPath());
+        if (Objects.nonNull(runFile) && ConfigReader.isHistoryEnabled()) {
+            try {
+                ResultHistoryStore.record(mapper.readTree(runFile));
+            } catch (IOException e) {
+                logger.error("Failed to read exported phase timings: " + runFile.getPath(), e);
+            }
+        }
+    }
+
+    /**
+     * Export the recorded tests of this run and refresh the trend view
+     * @param directory Phase timing directory
+     * @return Exported run file, or null if no test was recorded
+     */
+    public static File export(String directory) {
+        ObjectNode run = mapper.createObjectNode();
+        String runName = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS"));
+        run.put("run", runName);
+        ObjectNode totals = run.putObject("totals");
+        for (Phase phase : Phase.values()) {
+            totals.put(phase.name(), 0L);
+        }
+        ArrayNode tests = run.putArray("tests");
+        ObjectNode test;
+        while (Objects.nonNull(test = finishedTests.poll())) {
+            tests.add(test);
+            for (Phase phase : Phase.values()) {
+                totals.put(phase.name(), totals.path(phase.name()).asLong() + test.path("phases").path(phase.name()).asLong());
+            }
+        }
+        if (tests.isEmpty()) {
+            return null;
+        }
+
+        File runFile = new File(directory, FrameworkConstants.PHASE_TIMING_PREFIX + runName + FrameworkConstants.JSON_EXTENSION);
+        try {
+            Files.createDirectories(runFile.getAbsoluteFile().getParentFile().toPath());
+            mapper.writerWithDefaultPrettyPrinter().writeValue(runFile, run);
+            renderTrend(directory, ConfigReader.getPhaseTimingTrendRuns());
+            logger.info("Exported phase timings of " + tests.size() + " tests to: " + runFile.getPath());
+        } catch (IOException e) {
+            logger.error("Failed to export phase timings to: " + runFile.getPath(), e);
+        }
+        return runFile;
+    }
+
+    /**
+     * Render the HTML view comparing the phase totals of the last runs, with the per-test
+     * breakdown of the latest run
+     * @param directory Phase timing directory
+     * @param runCount Number of runs to compare
+     */
+    private static void renderTrend(String directory, int runCount) throws IOException {
+        File[] runFiles = new File(directory).listFiles((dir, name) -> name.startsWith(FrameworkConstants.PHASE_TIMING_PREFIX)
+                && name.endsWith(FrameworkConstants.JSON_EXTENSION));
+        if (Objects.isNull(runFiles) || runFiles.length == 0) {
+            return;
+        }
+        Arrays.sort(runFiles);
+        List<JsonNode> runs = new ArrayList<>();
+        for (File runFile : Arrays.copyOfRange(runFiles, Math.max(0, runFiles.length - runCount), runFiles.length)) {
+            runs.add(mapper.readTree(runFile));
+        }
+
+        File html = new File(directory, FrameworkConstants.PHASE_TREND_FILE);
+        try (BufferedWriter out = Files.newBufferedWriter(html.toPath(), StandardCharsets.UTF_8)) {
+            out.write("<!DOCTYPE html>\n<html>\n<head>\n<meta charset=\"UTF-8\">\n<title>Phase Timing Trend</title>\n");
+            out.write("<style>body{font-family:sans-serif;margin:20px}table{border-collapse:collapse;margin-bottom:24px}"
+                    + "td,th{border:1px solid #ccc;padding:4px 8px;text-align:right}td:first-child,th:first-child{text-align:left}"
+                    + ".bar{display:flex;width:400px;height:14px}.bar span{display:block;height:14px}</style>\n</head>\n<body>\n");
+            out.write("<h1>Phase Timing Trend</h1>\n<p>Last " + runs.size() + " runs, total milliseconds per phase</p>\n");
+            writeTable(out, "Run", runs, run -> run.path("run").asText(), run -> run.path("totals"));
+
+            JsonNode latest = runs.get(runs.size() - 1);
+            out.write("<h2>Latest run: " + latest.path("run").asText() + "</h2>\n");
+            List<JsonNode> tests = new ArrayList<>();
+            latest.path("tests").forEach(tests::add);
+            tests.sort((a, b) -> Long.compare(b.path("totalMs").asLong(), a.path("totalMs").asLong()));
+            writeTable(out, "Test", tests, test -> test.path("name").asText() + " (" + test.path("status").asText() + ")",
+                    test -> test.path("phases"));
+            out.write("</body>\n</html>\n");
+        }
+    }
+
+    /**
+     * Write one row of phase durations per item, with a stacked bar of the shares
+     */
+    private static void writeTable(BufferedWriter out, String label, List<JsonNode> items,
+                                   Function<JsonNode, String> name, Function<JsonNode, JsonNode> phases) throws IOException {
+        String[] colors = {"#5e72e4", "#11cdef", "#2dce89", "#f5365c", "#fb6340", "#ffd600", "#8965e0", "#525f7f", "#adb5bd"};
+        out.write("<table>\n<tr><th>" + label + "</th>");
+        for (Phase phase : Phase.values()) {
+            out.write("<th style=\"border-bottom:3px solid " + colors[phase.ordinal()] + "\">" + phase.name() + "</th>");
+        }
+        out.write("<th>Total</th><th>Breakdown</th></tr>\n");
+        for (JsonNode item : items) {
+            JsonNode durations = phases.apply(item);
+            long total = 0;
+            for (Phase phase : Phase.values()) {
+                total += durations.path(phase.name()).asLong();
+            }
+            out.write("<tr><td>" + escape(name.apply(item)) + "</td>");
+            StringBuilder bar = new StringBuilder();
+            for (Phase phase : Phase.values()) {
+                long duration = durations.path(phase.name()).asLong();
+                out.write("<td>" + duration + "</td>");
+                if (total > 0 && duration > 0) {
+                    bar.append("<span title=\"").append(phase.name()).append("\" style=\"width:")
+                            .append(String.format("%.2f", 100.0 * duration / total)).append("%;background:")
+                            .append(colors[phase.ordinal()]).append("\"></span>");
+                }
+            }
+            out.write("<td>" + total + "</td><td><div class=\"bar\">" + bar + "</div></td></tr>\n");
+        }
+        out.write("</table>\n");
+    }
+
+    private static String getStatus(ITestResult result) {
+        switch (result.getStatus()) {
+            case ITestResult.SUCCESS:
+                return "PASS";
+            case ITestResult.FAILURE:
+                return "FAIL";
+            case ITestResult.SKIP:
+                return "SKIP";
+            default:
+                return "UNKNOWN";
+        }
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,284 @@
+package com.hybridframework.utils;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
+import com.aventstack.extentreports.model.Log;
+import com.aventstack.extentreports.reporter.ExtentSparkReporter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hybridframework.constants.FrameworkConstants;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+/**
+ * Offline report builder merging the per-process event logs written by
+ * {@link com.hybridframework.listeners.EventLogSubscriber} into one Extent report. The logs are
+ * read in a single streaming pass, interleaved by event time; only tests that have started but
+ * not ended are held apart from the report model.
+ *
+ * <pre>
+ * ReportBuilder [-o report.html] [event log files or directories...]
+ * </pre>
+ */
+public class ReportBuilder {
+
+    private static final Logger logger = LogManager.getLogger(ReportBuilder.class);
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    /**
+     * Totals of a merged run
+     */
+    public static final class Summary {
+        private final Map<String, Integer> testsByFork = new TreeMap<>();
+        private int total;
+        private int passed;
+        private int failed;
+        private int skipped;
+        private long start = Long.MAX_VALUE;
+        private long end = Long.MIN_VALUE;
+
+        public int getTotal() {
+            return total;
+        }
+
+        public int getPassed() {
+            return passed;
+        }
+
+        public int getFailed() {
+            return failed;
+        }
+
+        public int getSkipped() {
+            return skipped;
+        }
+
+        public Map<String, Integer> getTestsByFork() {
+            return testsByFork;
+        }
+
+        /**
+         * Get wall-clock time from the first event to the last one
+         * @return Duration in milliseconds
+         */
+        public long getDurationMillis() {
+            return total > 0 ? end - start : 0;
+        }
+
+        @Override
+        public String toString() {
+            return "Tests: " + total + ", Passed: " + passed + ", Failed: " + failed + ", Skipped: " + skipped
+                    + ", Forks: " + testsByFork.size() + ", Duration: " + getDurationMillis() + " ms";
+        }
+    }
+
+    /**
+     * Event log positioned at its next unread event
+     */
+    private static final class EventLogReader {
+        private final BufferedReader reader;
+        private final int order;
+        private JsonNode next;
+
+        private EventLogReader(File file, int order) throws IOException {
+            this.reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8);
+            this.order = order;
+        }
+
+        /**
+         * Read the next event
+         * @return False at end of log
+         */
+        private boolean advance() throws IOException {
+            String line;
+            while (Objects.nonNull(line = reader.readLine())) {
+                if (!line.isEmpty()) {
+                    next = mapper.readTree(line);
+                    return true;
+                }
+            }
+            reader.close();
+            return false;
+        }
+
+        private long time() {
+            return next.path("time").asLong();
+        }
+    }
+
+    /**
+     * Merge event logs into one Extent report
+     * @param logFiles Event logs, one per process
+     * @param reportPath Report file path
+     * @return Summary of the merged run
+     */
+    public static Summary build(List<File> logFiles, String reportPath) throws IOException {
+        File reportFile = new File(reportPath).getAbsoluteFile();
+        Files.createDirectories(reportFile.getParentFile().toPath());
+        ExtentSparkReporter sparkReporter = new ExtentSparkReporter(reportFile);
+        ExtentReportManager.configureSparkReporter(sparkReporter);
+        ExtentReports extent = new ExtentReports();
+        extent.attachReporter(sparkReporter);
+        extent.setReportUsesManualConfiguration(true);
+
+        PriorityQueue<EventLogReader> readers = new PriorityQueue<>((a, b) ->
+                a.time() != b.time() ? Long.compare(a.time(), b.time()) : Integer.compare(a.order, b.order));
+        for (int i = 0; i < logFiles.size(); i++) {
+            EventLogReader reader = new EventLogReader(logFiles.get(i), i);
+            if (reader.advance()) {
+                readers.add(reader);
+            }
+        }
+
+        Summary summary = new Summary();
+        Map<String, ExtentTest> running = new HashMap<>();
+        while (!readers.isEmpty()) {
+            EventLogReader reader = readers.poll();
+            apply(extent, reader.next, running, summary);
+            if (reader.advance()) {
+                readers.add(reader);
+            }
+        }
+
+        extent.setSystemInfo("Forks", String.valueOf(summary.testsByFork.size()));
+        extent.setSystemInfo("Event Logs", String.valueOf(logFiles.size()));
+        extent.flush();
+        logger.info("Merged " + logFiles.size() + " event logs into " + reportPath + ": " + summary);
+        return summary;
+    }
+
+    /**
+     * Apply one event to the report
+     * @param extent Report
+     * @param event Event
+     * @param running Tests started but not yet ended, by fork and id
+     * @param summary Run totals
+     */
+    private static void apply(ExtentReports extent, JsonNode event, Map<String, ExtentTest> running, Summary summary) {
+        String fork = event.path("fork").asText();
+        String key = fork + ":" + event.path("id").asText();
+        Date time = new Date(event.path("time").asLong());
+        summary.start = Math.min(summary.start, time.getTime());
+        summary.end = Math.max(summary.end, time.getTime());
+
+        String type = event.path("event").asText();
+        if ("TEST_START".equals(type)) {
+            ExtentTest extentTest = extent.createTest(event.path("name").asText(), event.path("description").asText());
+            if (event.hasNonNull("category")) {
+                extentTest.assignCategory(event.path("category").asText());
+            }
+            extentTest.assignDevice(fork);
+            extentTest.getModel().setStartTime(time);
+            extentTest.getModel().setEndTime(time);
+            running.put(key, extentTest);
+            summary.total++;
+            summary.testsByFork.merge(fork, 1, Integer::sum);
+            return;
+        }
+
+        ExtentTest extentTest = running.get(key);
+        if (Objects.isNull(extentTest)) {
+            logger.warn("Event for unknown test " + key + " ignored: " + type);
+            return;
+        }
+        switch (type) {
+            case "TEST_PASS":
+                log(extentTest, Status.PASS, "Test passed successfully", time);
+                summary.passed++;
+                break;
+            case "TEST_FAIL":
+                log(extentTest, Status.FAIL, "Test failed: " + event.path("message").asText(), time);
+                summary.failed++;
+                break;
+            case "TEST_SKIP":
+                log(extentTest, Status.SKIP, "Test skipped: " + event.path("message").asText(), time);
+                summary.skipped++;
+                break;
+            case "TEST_END":
+                extentTest.getModel().setEndTime(time);
+                running.remove(key);
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Log an entry at its recorded time
+     * @param extentTest Test
+     * @param status Log status
+     * @param details Log message
+     * @param time Event time
+     */
+    private static void log(ExtentTest extentTest, Status status, String details, Date time) {
+        extentTest.log(status, details);
+        List<Log> logs = extentTest.getModel().getLogs();
+        logs.get(logs.size() - 1).setTimestamp(time);
+        extentTest.getModel().setEndTime(time);
+    }
+
+    /**
+     * Collect event logs from files and directories
+     * @param paths Event log files or directories containing them
+     * @return Event log files
+     */
+    public static List<File> findEventLogs(List<String> paths) {
+        List<File> logFiles = new ArrayList<>();
+        for (String path : paths) {
+            File file = new File(path);
+            File[] children = file.listFiles((dir, name) -> name.startsWith(FrameworkConstants.EVENT_LOG_PREFIX)
+                    && name.endsWith(FrameworkConstants.EVENT_LOG_EXTENSION));
+            if (Objects.nonNull(children)) {
+                Arrays.sort(children);
+                logFiles.addAll(Arrays.asList(children));
+            } else if (file.isFile()) {
+                logFiles.add(file);
+            } else {
+                logger.warn("Event log not found: " + path);
+            }
+        }
+        return logFiles;
+    }
+
+    /**
+     * Merge event logs from the command line
+     * @param args Optional "-o report.html", then event log files or directories
+     *             (defaults to the configured event log path)
+     */
+    public static void main(String[] args) throws IOException {
+        String reportPath = FrameworkConstants.MERGED_REPORT_PATH;
+        List<String> paths = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if ("-o".equals(args[i]) && i + 1 < args.length) {
+                reportPath = args[++i];
+            } else {
+                paths.add(args[i]);
+            }
+        }
+        if (paths.isEmpty()) {
+            paths.add(ConfigReader.getEventLogPath());
+        }
+
+        List<File> logFiles = findEventLogs(paths);
+        Summary summary = build(logFiles, reportPath);
+        System.out.println("Merged " + logFiles.size() + " event logs into " + reportPath);
+        System.out.println(summary);
+        summary.getTestsByFork().forEach((fork, tests) -> System.out.println("  " + fork + ": " + tests + " tests"));
+    }
+}
\ No newline at end of file
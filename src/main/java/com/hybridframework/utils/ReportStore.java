@@ -0,0 +1,342 @@
+package com.hybridframework.utils;
+
+import com.aventstack.extentreports.model.Category;
+import com.aventstack.extentreports.model.Log;
+import com.aventstack.extentreports.model.Media;
+import com.aventstack.extentreports.model.Test;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.hybridframework.constants.FrameworkConstants;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Append-only store of completed report tests for incremental reporting. Each finished test
+ * is serialized to one JSON line and dropped from memory; a single background writer appends
+ * the lines to the store file periodically. At suite end the HTML report is rendered by
+ * streaming the store twice (summary, then tests), so memory stays flat whatever the suite size.
+ * Log details are rendered as text unless the log was flagged as markup with {@link #flagMarkup};
+ * the page is a plain list of tests without the Spark dashboard and scripts.
+ */
+public class ReportStore {
+
+    private static final Logger logger = LogManager.getLogger(ReportStore.class);
+    private static final String MARKUP_FLAG = "markup";
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").withZone(ZoneId.systemDefault());
+    private static final Queue<String> pending = new ConcurrentLinkedQueue<>();
+    private static ScheduledExecutorService writer;
+    private static volatile File storeFile;
+
+    /**
+     * Start a new store for this run, replacing the previous run's store
+     * @param storeDirectory Report store directory
+     */
+    public static synchronized void open(String storeDirectory) {
+        File file = new File(storeDirectory, FrameworkConstants.REPORT_STORE_FILE);
+        try {
+            Files.createDirectories(file.getAbsoluteFile().getParentFile().toPath());
+            Files.deleteIfExists(file.toPath());
+        } catch (IOException e) {
+            logger.error("Failed to prepare report store: " + file.getPath(), e);
+            throw new RuntimeException("Failed to prepare report store: " + file.getPath(), e);
+        }
+        pending.clear();
+        storeFile = file;
+
+        if (Objects.isNull(writer)) {
+            writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "report-store-writer");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long interval = ConfigReader.getReportFlushIntervalSeconds();
+            writer.scheduleWithFixedDelay(ReportStore::writePending, interval, interval, TimeUnit.SECONDS);
+        }
+        logger.info("Report store opened: " + file.getPath());
+    }
+
+    /**
+     * Get the store file of the current run
+     * @return Store file or null if no store is open
+     */
+    public static File getStoreFile() {
+        return storeFile;
+    }
+
+    /**
+     * Queue a completed test for the store. The test is serialized immediately, so the caller
+     * can drop it from the report afterwards.
+     * @param test Completed test model
+     */
+    public static void append(Test test) {
+        if (Objects.isNull(storeFile)) {
+            return;
+        }
+        pending.add(toJson(test).toString());
+    }
+
+    /**
+     * Flag a log whose details are HTML markup (code block, label, table), so they are rendered
+     * as such instead of escaped
+     * @param log Log created from a Markup
+     */
+    public static void flagMarkup(Log log) {
+        log.getInfoMap().put(MARKUP_FLAG, true);
+    }
+
+    /**
+     * Write all queued tests and wait until they are on disk
+     */
+    public static void flush() {
+        ScheduledExecutorService current = getWriter();
+        if (Objects.isNull(current)) {
+            return;
+        }
+
+        try {
+            current.submit(ReportStore::writePending).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Interrupted while flushing report store");
+        } catch (ExecutionException e) {
+            logger.error("Failed to flush report store", e.getCause());
+        }
+    }
+
+    /**
+     * Render the HTML report from the store
+     * @param htmlPath Report file path
+     * @param title Document title
+     * @param reportName Report name
+     * @param systemInfo System information shown in the header
+     */
+    public static void render(String htmlPath, String title, String reportName, Map<String, String> systemInfo) {
+        flush();
+        File store = storeFile;
+        if (Objects.isNull(store)) {
+            return;
+        }
+
+        Path target = new File(htmlPath).getAbsoluteFile().toPath();
+        try {
+            Summary summary = summarize(store);
+            Files.createDirectories(target.getParent());
+            Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+            try (BufferedWriter out = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                writeHeader(out, title, reportName, systemInfo, summary);
+                if (store.exists()) {
+                    try (BufferedReader in = Files.newBufferedReader(store.toPath(), StandardCharsets.UTF_8)) {
+                        String line;
+                        while (Objects.nonNull(line = in.readLine())) {
+                            if (!line.isEmpty()) {
+                                writeTest(out, mapper.readTree(line));
+                            }
+                        }
+                    }
+                }
+                out.write("</main>\n</body>\n</html>\n");
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.info("Rendered " + summary.total + " tests from report store to: " + htmlPath);
+        } catch (IOException e) {
+            logger.error("Failed to render report from store: " + store.getPath(), e);
+        }
+    }
+
+    private static synchronized ScheduledExecutorService getWriter() {
+        return writer;
+    }
+
+    /**
+     * Append queued lines to the store file. Runs on the writer thread only.
+     */
+    private static void writePending() {
+        File store = storeFile;
+        if (Objects.isNull(store) || pending.isEmpty()) {
+            return;
+        }
+
+        try (BufferedWriter out = Files.newBufferedWriter(store.toPath(), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            String line;
+            while (Objects.nonNull(line = pending.poll())) {
+                out.write(line);
+                out.write('\n');
+            }
+        } catch (IOException e) {
+            logger.error("Failed to append to report store: " + store.getPath(), e);
+        }
+    }
+
+    /**
+     * Serialize a test and its child nodes
+     * @param test Test model
+     * @return JSON object
+     */
+    private static ObjectNode toJson(Test test) {
+        ObjectNode node = mapper.createObjectNode();
+        node.put("name", test.getName());
+        node.put("description", test.getDescription());
+        node.put("status", test.getStatus().name());
+        node.put("start", test.getStartTime().getTime());
+        node.put("end", test.getEndTime().getTime());
+
+        ArrayNode categories = node.putArray("categories");
+        for (Category category : test.getCategorySet()) {
+            categories.add(category.getName());
+        }
+        ArrayNode logs = node.putArray("logs");
+        for (Log log : test.getLogs()) {
+            ObjectNode entry = logs.addObject();
+            entry.put("status", log.getStatus().name());
+            entry.put("timestamp", log.getTimestamp().getTime());
+            entry.put("details", log.getDetails());
+            if (Boolean.TRUE.equals(log.getInfoMap().get(MARKUP_FLAG))) {
+                entry.put(MARKUP_FLAG, true);
+            }
+            if (log.hasException()) {
+                entry.put("exception", log.getException().getStackTrace());
+            }
+            if (Objects.nonNull(log.getMedia())) {
+                entry.put("media", log.getMedia().getPath());
+            }
+        }
+        ArrayNode media = node.putArray("media");
+        for (Media screenshot : test.getMedia()) {
+            media.add(screenshot.getPath());
+        }
+        ArrayNode children = node.putArray("children");
+        for (Test child : test.getChildren()) {
+            children.add(toJson(child));
+        }
+        return node;
+    }
+
+    /**
+     * Run totals gathered in a first pass over the store
+     */
+    private static final class Summary {
+        private final Map<String, Integer> statusCounts = new TreeMap<>();
+        private int total;
+        private long start = Long.MAX_VALUE;
+        private long end = Long.MIN_VALUE;
+    }
+
+    private static Summary summarize(File store) throws IOException {
+        Summary summary = new Summary();
+        if (!store.exists()) {
+            return summary;
+        }
+        try (BufferedReader in = Files.newBufferedReader(store.toPath(), StandardCharsets.UTF_8)) {
+            String line;
+            while (Objects.nonNull(line = in.readLine())) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                JsonNode test = mapper.readTree(line);
+                summary.total++;
+                summary.statusCounts.merge(test.path("status").asText(), 1, Integer::sum);
+                summary.start = Math.min(summary.start, test.path("start").asLong());
+                summary.end = Math.max(summary.end, test.path("end").asLong());
+            }
+        }
+        return summary;
+    }
+
+    private static void writeHeader(BufferedWriter out, String title, String reportName, Map<String, String> systemInfo,
+                                    Summary summary) throws IOException {
+        out.write("<!DOCTYPE html>\n<html>\n<head>\n<meta charset=\"UTF-8\">\n<title>" + escape(title) + "</title>\n");
+        out.write("<style>body{font-family:sans-serif;margin:20px;background:#1e1e2f;color:#ddd}"
+                + "table{border-collapse:collapse}td,th{padding:4px 10px;text-align:left;vertical-align:top}"
+                + "details{border-left:4px solid #888;margin:6px 0;padding:4px 8px;background:#27293d}"
+                + ".PASS{border-color:#2dce89}.FAIL{border-color:#f5365c}.SKIP{border-color:#fb6340}.WARNING{border-color:#ffd600}"
+                + "summary{cursor:pointer}.muted{color:#999}img{max-width:600px}"
+                + "textarea.code-block{width:100%;min-height:120px;background:#1e1e2f;color:#ddd}"
+                + ".badge{padding:2px 6px;border-radius:3px;background:#525f7f}</style>\n</head>\n<body>\n");
+        out.write("<h1>" + escape(reportName) + "</h1>\n<table>\n");
+        out.write("<tr><th>Tests</th><td>" + summary.total + "</td></tr>\n");
+        for (Map.Entry<String, Integer> count : summary.statusCounts.entrySet()) {
+            out.write("<tr><th>" + escape(count.getKey()) + "</th><td>" + count.getValue() + "</td></tr>\n");
+        }
+        if (summary.total > 0) {
+            out.write("<tr><th>Started</th><td>" + formatTime(summary.start) + "</td></tr>\n");
+            out.write("<tr><th>Ended</th><td>" + formatTime(summary.end) + "</td></tr>\n");
+        }
+        for (Map.Entry<String, String> info : systemInfo.entrySet()) {
+            out.write("<tr><th>" + escape(info.getKey()) + "</th><td>" + escape(info.getValue()) + "</td></tr>\n");
+        }
+        out.write("</table>\n<main>\n");
+    }
+
+    private static void writeTest(BufferedWriter out, JsonNode test) throws IOException {
+        String status = test.path("status").asText();
+        long duration = test.path("end").asLong() - test.path("start").asLong();
+        out.write("<details class=\"" + escape(status) + "\"><summary>" + escape(status) + " &mdash; " + escape(test.path("name").asText()));
+        for (JsonNode category : test.path("categories")) {
+            out.write(" <span class=\"muted\">[" + escape(category.asText()) + "]</span>");
+        }
+        out.write(" <span class=\"muted\">" + duration + " ms</span></summary>\n");
+
+        String description = test.path("description").asText("");
+        if (!description.isEmpty()) {
+            out.write("<p class=\"muted\">" + escape(description) + "</p>\n");
+        }
+        out.write("<table>\n");
+        for (JsonNode log : test.path("logs")) {
+            String details = log.path("details").asText("");
+            out.write("<tr><td class=\"muted\">" + formatTime(log.path("timestamp").asLong()) + "</td><td>"
+                    + escape(log.path("status").asText()) + "</td><td>" + (log.path(MARKUP_FLAG).asBoolean() ? details : escape(details)));
+            if (log.hasNonNull("exception")) {
+                out.write("<pre>" + escape(log.path("exception").asText()) + "</pre>");
+            }
+            if (log.hasNonNull("media")) {
+                out.write("<br><img src=\"" + escape(log.path("media").asText()) + "\">");
+            }
+            out.write("</td></tr>\n");
+        }
+        out.write("</table>\n");
+        for (JsonNode media : test.path("media")) {
+            out.write("<a href=\"" + escape(media.asText()) + "\"><img src=\"" + escape(media.asText()) + "\"></a>\n");
+        }
+        for (JsonNode child : test.path("children")) {
+            writeTest(out, child);
+        }
+        out.write("</details>\n");
+    }
+
+    private static String formatTime(long epochMillis) {
+        return TIME_FORMAT.format(Instant.ofEpochMilli(epochMillis));
+    }
+
+    private static String escape(String text) {
+        if (Objects.isNull(text)) {
+            return "";
+        }
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,437 @@
+package com.hybridframework.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.hybridframework.constants.FrameworkConstants;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Embedded, append-only history of test results across runs. Every test of an exported
+ * {@link PhaseTimer} run is appended as one JSON line (name, status, duration, phases) to the
+ * data file, and as one fixed-size record to the index file:
+ *
+ * <pre>
+ * name hash (8) | data offset (8) | run number (4) | duration ms (4) | status (1)
+ * </pre>
+ *
+ * Duration queries (p50/p95 trends, regression detection) scan only the index; the data file is
+ * read just to resolve the names of the tests reported. Neither file is ever rewritten.
+ * Appends hold an exclusive lock on the index file, so forked JVMs sharing a history
+ * directory get distinct run numbers and never interleave their records.
+ *
+ * <pre>
+ * ResultHistoryStore [-d directory] trend [test name]
+ * ResultHistoryStore [-d directory] regressions
+ * </pre>
+ */
+public class ResultHistoryStore {
+
+    private static final Logger logger = LogManager.getLogger(ResultHistoryStore.class);
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final int RECORD_SIZE = 25;
+
+    /**
+     * Index record of one test result
+     */
+    private static final class Record {
+        private final long nameHash;
+        private final long offset;
+        private final int run;
+        private final int durationMs;
+        private final byte status;
+
+        private Record(ByteBuffer buffer) {
+            this.nameHash = buffer.getLong();
+            this.offset = buffer.getLong();
+            this.run = buffer.getInt();
+            this.durationMs = buffer.getInt();
+            this.status = buffer.get();
+        }
+    }
+
+    /**
+     * Duration statistics of one test
+     */
+    public static final class Stats {
+        private final String testName;
+        private final int samples;
+        private final int failures;
+        private final long p50;
+        private final long p95;
+        private final long latest;
+
+        private Stats(String testName, List<Record> records) {
+            long[] durations = new long[records.size()];
+            int failed = 0;
+            for (int i = 0; i < durations.length; i++) {
+                durations[i] = records.get(i).durationMs;
+                failed += records.get(i).status == 'F' ? 1 : 0;
+            }
+            this.testName = testName;
+            this.samples = durations.length;
+            this.failures = failed;
+            this.latest = durations.length > 0 ? durations[durations.length - 1] : 0;
+            Arrays.sort(durations);
+            this.p50 = percentile(durations, 50);
+            this.p95 = percentile(durations, 95);
+        }
+
+        public String getTestName() {
+            return testName;
+        }
+
+        public int getSamples() {
+            return samples;
+        }
+
+        public int getFailures() {
+            return failures;
+        }
+
+        public long getP50() {
+            return p50;
+        }
+
+        public long getP95() {
+            return p95;
+        }
+
+        public long getLatest() {
+            return latest;
+        }
+
+        @Override
+        public String toString() {
+            return testName + ": runs=" + samples + ", failures=" + failures + ", p50=" + p50 + " ms, p95=" + p95
+                    + " ms, latest=" + latest + " ms";
+        }
+    }
+
+    /**
+     * Test whose latest duration exceeds its baseline
+     */
+    public static final class Regression {
+        private final String testName;
+        private final long baselineMs;
+        private final long latestMs;
+
+        private Regression(String testName, long baselineMs, long latestMs) {
+            this.testName = testName;
+            this.baselineMs = baselineMs;
+            this.latestMs = latestMs;
+        }
+
+        public String getTestName() {
+            return testName;
+        }
+
+        public long getBaselineMs() {
+            return baselineMs;
+        }
+
+        public long getLatestMs() {
+            return latestMs;
+        }
+
+        @Override
+        public String toString() {
+            return testName + ": " + latestMs + " ms against a p50 of " + baselineMs + " ms";
+        }
+    }
+
+    /**
+     * Append the tests of an exported phase timing run
+     * @param directory History directory
+     * @param run Run exported by PhaseTimer
+     * @return Run number assigned to the run
+     */
+    public static synchronized int appendRun(String directory, JsonNode run) throws IOException {
+        Path dir = Paths.get(directory);
+        Files.createDirectories(dir);
+        try (FileChannel data = FileChannel.open(dir.resolve(FrameworkConstants.HISTORY_DATA_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+             FileChannel index = FileChannel.open(dir.resolve(FrameworkConstants.HISTORY_INDEX_FILE),
+                     StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+             FileLock lock = index.lock()) {
+            // Other processes append under the same lock, so the data size and last run are stable until released
+            if (!lock.isValid()) {
+                throw new IOException("Lost lock on history index: " + directory);
+            }
+            int runNumber = getLastRun(index) + 1;
+            long offset = data.size();
+            index.position(index.size() - index.size() % RECORD_SIZE);
+            ByteBuffer records = ByteBuffer.allocate(RECORD_SIZE * run.path("tests").size());
+            ByteArrayOutputStream lines = new ByteArrayOutputStream();
+            for (JsonNode test : run.path("tests")) {
+                ObjectNode line = mapper.createObjectNode();
+                line.put("run", runNumber);
+                line.put("runName", run.path("run").asText());
+                line.setAll((ObjectNode) test);
+                byte[] bytes = (line.toString() + "\n").getBytes(StandardCharsets.UTF_8);
+                lines.write(bytes);
+
+                records.putLong(hash(test.path("name").asText()));
+                records.putLong(offset);
+                records.putInt(runNumber);
+                records.putInt((int) Math.min(Integer.MAX_VALUE, test.path("totalMs").asLong()));
+                records.put(toStatus(test.path("status").asText()));
+                offset += bytes.length;
+            }
+            write(data, ByteBuffer.wrap(lines.toByteArray()));
+            records.flip();
+            write(index, records);
+            logger.info("Appended " + run.path("tests").size() + " results as run " + runNumber + " to history: " + directory);
+            return runNumber;
+        }
+    }
+
+    /**
+     * Get duration statistics of one test over its last runs
+     * @param directory History directory
+     * @param testName Test name
+     * @param lastRuns Number of most recent runs to include
+     * @return Statistics, with zero samples if the test has no history
+     */
+    public static Stats getStats(String directory, String testName, int lastRuns) throws IOException {
+        List<Record> records = readIndex(directory);
+        int fromRun = records.isEmpty() ? 0 : records.get(records.size() - 1).run - lastRuns + 1;
+        long nameHash = hash(testName);
+        List<Record> matching = new ArrayList<>();
+        for (Record record : records) {
+            if (record.nameHash == nameHash && record.run >= fromRun) {
+                matching.add(record);
+            }
+        }
+        return new Stats(testName, matching);
+    }
+
+    /**
+     * Get duration statistics of every test seen in the last runs, slowest p95 first
+     * @param directory History directory
+     * @param lastRuns Number of most recent runs to include
+     * @return Statistics per test
+     */
+    public static List<Stats> getTrends(String directory, int lastRuns) throws IOException {
+        List<Record> records = readIndex(directory);
+        int fromRun = records.isEmpty() ? 0 : records.get(records.size() - 1).run - lastRuns + 1;
+        Map<Long, List<Record>> byTest = new LinkedHashMap<>();
+        for (Record record : records) {
+            if (record.run >= fromRun) {
+                byTest.computeIfAbsent(record.nameHash, hash -> new ArrayList<>()).add(record);
+            }
+        }
+
+        List<Stats> trends = new ArrayList<>();
+        for (List<Record> testRecords : byTest.values()) {
+            trends.add(new Stats(readName(directory, testRecords.get(0)), testRecords));
+        }
+        trends.sort(Comparator.comparingLong(Stats::getP95).reversed());
+        return trends;
+    }
+
+    /**
+     * Find tests of the latest run whose duration regressed against the median of their previous runs
+     * @param directory History directory
+     * @param baselineRuns Number of previous runs forming the baseline
+     * @param thresholdPercent Allowed increase over the baseline, in percent
+     * @param minimumMs Minimum increase to report, so noise on fast tests is ignored
+     * @return Regressed tests, largest increase first
+     */
+    public static List<Regression> findRegressions(String directory, int baselineRuns, int thresholdPercent,
+                                                   long minimumMs) throws IOException {
+        List<Record> records = readIndex(directory);
+        if (records.isEmpty()) {
+            return new ArrayList<>();
+        }
+        int latestRun = records.get(records.size() - 1).run;
+        Map<Long, Record> latest = new HashMap<>();
+        Map<Long, List<Record>> baselines = new HashMap<>();
+        for (Record record : records) {
+            if (record.run == latestRun) {
+                latest.put(record.nameHash, record);
+            } else if (record.run >= latestRun - baselineRuns && record.status == 'P') {
+                baselines.computeIfAbsent(record.nameHash, hash -> new ArrayList<>()).add(record);
+            }
+        }
+
+        List<Regression> regressions = new ArrayList<>();
+        for (Record record : latest.values()) {
+            List<Record> baseline = baselines.get(record.nameHash);
+            if (Objects.isNull(baseline) || baseline.size() < FrameworkConstants.HISTORY_MIN_BASELINE_SAMPLES) {
+                continue;
+            }
+            long median = new Stats(null, baseline).getP50();
+            long increase = record.durationMs - median;
+            if (increase >= minimumMs && increase * 100 > median * thresholdPercent) {
+                regressions.add(new Regression(readName(directory, record), median, record.durationMs));
+            }
+        }
+        regressions.sort(Comparator.comparingLong((Regression r) -> r.getLatestMs() - r.getBaselineMs()).reversed());
+        return regressions;
+    }
+
+    /**
+     * Append an exported run to the configured history and log the duration regressions it shows
+     * @param run Run exported by PhaseTimer
+     */
+    public static void record(JsonNode run) {
+        String directory = ConfigReader.getHistoryPath();
+        try {
+            appendRun(directory, run);
+            for (Regression regression : findRegressions(directory, ConfigReader.getHistoryBaselineRuns(),
+                    ConfigReader.getHistoryRegressionThresholdPercent(), ConfigReader.getHistoryRegressionMinimumMs())) {
+                logger.warn("Duration regression: " + regression);
+            }
+        } catch (IOException e) {
+            logger.error("Failed to record run in result history: " + directory, e);
+        }
+    }
+
+    /**
+     * Query the history from the command line
+     * @param args Optional "-d directory", then "trend [test name]" or "regressions"
+     */
+    public static void main(String[] args) throws IOException {
+        String directory = ConfigReader.getHistoryPath();
+        List<String> command = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if ("-d".equals(args[i]) && i + 1 < args.length) {
+                directory = args[++i];
+            } else {
+                command.add(args[i]);
+            }
+        }
+
+        int runs = ConfigReader.getHistoryBaselineRuns();
+        if (!command.isEmpty() && "regressions".equals(command.get(0))) {
+            List<Regression> regressions = findRegressions(directory, runs, ConfigReader.getHistoryRegressionThresholdPercent(),
+                    ConfigReader.getHistoryRegressionMinimumMs());
+            System.out.println(regressions.size() + " duration regressions in the latest run");
+            regressions.forEach(regression -> System.out.println("  " + regression));
+        } else if (command.size() > 1) {
+            System.out.println(getStats(directory, String.join(" ", command.subList(1, command.size())), runs));
+        } else {
+            System.out.println("Duration trends over the last " + runs + " runs");
+            getTrends(directory, runs).forEach(stats -> System.out.println("  " + stats));
+        }
+    }
+
+    /**
+     * Read all complete index records
+     * @param directory History directory
+     * @return Records in append order
+     */
+    private static List<Record> readIndex(String directory) throws IOException {
+        Path indexFile = Paths.get(directory, FrameworkConstants.HISTORY_INDEX_FILE);
+        List<Record> records = new ArrayList<>();
+        if (!Files.exists(indexFile)) {
+            return records;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(indexFile));
+        while (buffer.remaining() >= RECORD_SIZE) {
+            records.add(new Record(buffer));
+        }
+        return records;
+    }
+
+    /**
+     * Get the run number of the last complete index record
+     * @param index Index channel
+     * @return Last run number, 0 for an empty index
+     */
+    private static int getLastRun(FileChannel index) throws IOException {
+        long complete = index.size() - index.size() % RECORD_SIZE;
+        if (complete == 0) {
+            return 0;
+        }
+        ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+        index.read(record, complete - RECORD_SIZE);
+        record.flip();
+        return new Record(record).run;
+    }
+
+    /**
+     * Read the test name of a record from the data file
+     * @param directory History directory
+     * @param record Index record
+     * @return Test name
+     */
+    private static String readName(String directory, Record record) throws IOException {
+        try (RandomAccessFile data = new RandomAccessFile(Paths.get(directory, FrameworkConstants.HISTORY_DATA_FILE).toFile(), "r")) {
+            data.seek(record.offset);
+            String line = data.readLine();
+            return Objects.isNull(line) ? "" : mapper.readTree(new String(line.getBytes(StandardCharsets.ISO_8859_1),
+                    StandardCharsets.UTF_8)).path("name").asText();
+        }
+    }
+
+    private static void write(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        channel.force(false);
+    }
+
+    /**
+     * Nearest-rank percentile
+     * @param sorted Sorted values
+     * @param percent Percentile
+     * @return Value at the percentile, 0 for no values
+     */
+    private static long percentile(long[] sorted, int percent) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static byte toStatus(String status) {
+        switch (status) {
+            case "PASS":
+                return 'P';
+            case "FAIL":
+                return 'F';
+            case "SKIP":
+                return 'S';
+            default:
+                return 'U';
+        }
+    }
+
+    /**
+     * 64-bit FNV-1a hash of a test name
+     * @param name Test name
+     * @return Hash
+     */
+    private static long hash(String name) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : name.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
\ No newline at end of file
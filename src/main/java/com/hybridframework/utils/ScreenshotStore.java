@@ -0,0 +1,274 @@
+package com.hybridframework.utils;
+
+import com.hybridframework.constants.FrameworkConstants;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Content-addressed screenshot storage. Each screenshot is optionally downscaled and re-encoded,
+ * then stored under the SHA-256 of its bytes, so identical captures share one file. A 64-bit
+ * difference hash (dHash) of every stored image is kept in an index file in the screenshot
+ * directory. With screenshot.dedup.distance set (it is off by default, as two failures on one
+ * page that differ only in an error text can hash alike), a new capture within that many bits
+ * of one stored earlier in the same run reuses that file; across runs only byte-identical
+ * captures are shared. Files not written or reused for screenshot.retention.days are deleted.
+ */
+public class ScreenshotStore {
+
+    private static final Logger logger = LogManager.getLogger(ScreenshotStore.class);
+    private static final int HASH_WIDTH = 9;
+    private static final int HASH_HEIGHT = 8;
+    private static final Map<Path, List<IndexEntry>> indexes = new HashMap<>();
+
+    /**
+     * Perceptual hash of a stored file
+     */
+    private static final class IndexEntry {
+        private final long hash;
+        private final String fileName;
+        private final boolean currentRun;
+
+        private IndexEntry(long hash, String fileName, boolean currentRun) {
+            this.hash = hash;
+            this.fileName = fileName;
+            this.currentRun = currentRun;
+        }
+    }
+
+    /**
+     * Store a screenshot, reusing an identical one, or a perceptually equal one as configured
+     * @param directory Screenshot directory
+     * @param png Captured PNG bytes
+     * @return Path of the stored or reused file
+     */
+    public static String store(Path directory, byte[] png) throws IOException {
+        return store(directory, png, ConfigReader.getScreenshotDedupDistance());
+    }
+
+    /**
+     * Store a screenshot, reusing an identical one or a perceptually equal one from this run
+     * @param directory Screenshot directory
+     * @param png Captured PNG bytes
+     * @param dedupDistance Maximum dHash distance in bits, negative to reuse identical files only
+     * @return Path of the stored or reused file
+     */
+    public static String store(Path directory, byte[] png, int dedupDistance) throws IOException {
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+        byte[] encoded = png;
+        String extension = FrameworkConstants.SCREENSHOT_EXTENSION;
+        Long hash = null;
+        if (Objects.nonNull(image)) {
+            String format = ConfigReader.getScreenshotFormat();
+            BufferedImage scaled = downscale(image, ConfigReader.getScreenshotMaxWidth());
+            if (scaled != image || !"png".equalsIgnoreCase(format)) {
+                encoded = encode(scaled, format);
+                extension = "." + format.toLowerCase();
+            }
+            hash = differenceHash(scaled);
+        }
+        String fileName = sha256(encoded) + extension;
+
+        synchronized (indexes) {
+            Files.createDirectories(directory);
+            List<IndexEntry> index = getIndex(directory);
+            if (Objects.nonNull(hash) && dedupDistance >= 0) {
+                for (IndexEntry entry : index) {
+                    // Files of earlier runs may show another test's failure; those are only shared by exact hash below
+                    Path existing = directory.resolve(entry.fileName);
+                    if (entry.currentRun && Long.bitCount(entry.hash ^ hash) <= dedupDistance && Files.exists(existing)) {
+                        return reuse(existing);
+                    }
+                }
+            }
+
+            Path target = directory.resolve(fileName);
+            if (Files.exists(target)) {
+                return reuse(target);
+            }
+            ScreenshotWriter.writeAtomically(target, encoded);
+            if (Objects.nonNull(hash)) {
+                index.add(new IndexEntry(hash, fileName, true));
+                Files.write(directory.resolve(FrameworkConstants.SCREENSHOT_INDEX_FILE),
+                        (Long.toHexString(hash) + " " + fileName + "\n").getBytes(StandardCharsets.UTF_8),
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+            logger.info("Screenshot stored: " + target + " (" + encoded.length + " bytes)");
+            return target.toString();
+        }
+    }
+
+    /**
+     * Delete screenshots older than the retention period and drop them from the index
+     * @param screenshotDirectory Screenshot directory
+     * @return Number of files deleted
+     */
+    public static int applyRetention(String screenshotDirectory) {
+        int retentionDays = ConfigReader.getScreenshotRetentionDays();
+        File[] files = new File(screenshotDirectory).listFiles();
+        if (retentionDays <= 0 || Objects.isNull(files)) {
+            return 0;
+        }
+
+        long cutoff = Instant.now().minus(Duration.ofDays(retentionDays)).toEpochMilli();
+        int deleted = 0;
+        synchronized (indexes) {
+            for (File file : files) {
+                boolean image = file.getName().endsWith(FrameworkConstants.SCREENSHOT_EXTENSION) || file.getName().endsWith(".jpg");
+                if (image && file.lastModified() < cutoff && file.delete()) {
+                    deleted++;
+                }
+            }
+            if (deleted > 0) {
+                rewriteIndex(new File(screenshotDirectory).toPath());
+            }
+        }
+        logger.info("Screenshot retention deleted " + deleted + " files older than " + retentionDays + " days");
+        return deleted;
+    }
+
+    /**
+     * Mark a stored file as used so retention keeps it
+     * @param existing Stored file
+     * @return Its path
+     */
+    private static String reuse(Path existing) throws IOException {
+        Files.setLastModifiedTime(existing, FileTime.from(Instant.now()));
+        logger.info("Screenshot deduplicated to: " + existing);
+        return existing.toString();
+    }
+
+    /**
+     * Get the index of a directory, loading it from its index file on first use
+     * @param directory Screenshot directory
+     * @return Index entries
+     */
+    private static List<IndexEntry> getIndex(Path directory) throws IOException {
+        List<IndexEntry> index = indexes.get(directory);
+        if (Objects.isNull(index)) {
+            index = new ArrayList<>();
+            Path indexFile = directory.resolve(FrameworkConstants.SCREENSHOT_INDEX_FILE);
+            if (Files.exists(indexFile)) {
+                for (String line : Files.readAllLines(indexFile, StandardCharsets.UTF_8)) {
+                    String[] parts = line.split(" ", 2);
+                    if (parts.length == 2) {
+                        index.add(new IndexEntry(Long.parseUnsignedLong(parts[0], 16), parts[1], false));
+                    }
+                }
+            }
+            indexes.put(directory, index);
+        }
+        return index;
+    }
+
+    /**
+     * Rewrite the index file with the entries whose files still exist
+     * @param directory Screenshot directory
+     */
+    private static void rewriteIndex(Path directory) {
+        try {
+            List<String> lines = new ArrayList<>();
+            List<IndexEntry> index = getIndex(directory);
+            index.removeIf(entry -> !Files.exists(directory.resolve(entry.fileName)));
+            for (IndexEntry entry : index) {
+                lines.add(Long.toHexString(entry.hash) + " " + entry.fileName);
+            }
+            Files.write(directory.resolve(FrameworkConstants.SCREENSHOT_INDEX_FILE), lines, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warn("Failed to rewrite screenshot index in: " + directory, e);
+        }
+    }
+
+    /**
+     * Scale an image down to a maximum width, keeping its aspect ratio
+     * @param image Source image
+     * @param maxWidth Maximum width, 0 to keep the original size
+     * @return Scaled image, or the source if no scaling is needed
+     */
+    private static BufferedImage downscale(BufferedImage image, int maxWidth) {
+        if (maxWidth <= 0 || image.getWidth() <= maxWidth) {
+            return image;
+        }
+        int height = Math.max(1, (int) Math.round(image.getHeight() * (double) maxWidth / image.getWidth()));
+        return resize(image, maxWidth, height, BufferedImage.TYPE_INT_RGB);
+    }
+
+    private static BufferedImage resize(BufferedImage image, int width, int height, int type) {
+        BufferedImage resized = new BufferedImage(width, height, type);
+        Graphics2D graphics = resized.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        graphics.drawImage(image, 0, 0, width, height, null);
+        graphics.dispose();
+        return resized;
+    }
+
+    /**
+     * Encode an image, dropping transparency for formats without it
+     * @param image Image
+     * @param format ImageIO format name, e.g. png or jpg
+     * @return Encoded bytes
+     */
+    private static byte[] encode(BufferedImage image, String format) throws IOException {
+        BufferedImage output = image;
+        if (!"png".equalsIgnoreCase(format) && image.getType() != BufferedImage.TYPE_INT_RGB) {
+            output = resize(image, image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        if (!ImageIO.write(output, format, bytes)) {
+            throw new IOException("No image writer for screenshot format: " + format);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Difference hash: each bit tells whether a pixel of a 9x8 grayscale thumbnail is brighter than its right neighbour
+     * @param image Image
+     * @return 64-bit perceptual hash
+     */
+    private static long differenceHash(BufferedImage image) {
+        BufferedImage thumbnail = resize(image, HASH_WIDTH, HASH_HEIGHT, BufferedImage.TYPE_BYTE_GRAY);
+        long hash = 0;
+        for (int y = 0; y < HASH_HEIGHT; y++) {
+            for (int x = 0; x < HASH_WIDTH - 1; x++) {
+                int left = thumbnail.getRaster().getSample(x, y, 0);
+                int right = thumbnail.getRaster().getSample(x + 1, y, 0);
+                hash = (hash << 1) | (left > right ? 1 : 0);
+            }
+        }
+        return hash;
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            StringBuilder hex = new StringBuilder();
+            for (byte b : MessageDigest.getInstance("SHA-256").digest(bytes)) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
\ No newline at end of file
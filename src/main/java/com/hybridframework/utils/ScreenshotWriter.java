@@ -0,0 +1,108 @@
+package com.hybridframework.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded background writer for screenshots. Tests hand over the captured PNG bytes and get a
+ * future of the file path; the bytes are written through a file channel on a small pool. When
+ * screenshot.queue.capacity writes are pending, the submitting thread writes the file itself,
+ * which bounds the bytes held in memory. With screenshot.hashed.storage enabled, files are
+ * named and deduplicated by {@link ScreenshotStore}.
+ */
+public class ScreenshotWriter {
+
+    private static final Logger logger = LogManager.getLogger(ScreenshotWriter.class);
+    private static ThreadPoolExecutor executor;
+
+    /**
+     * Write a screenshot in the background
+     * @param screenshotPath Target file path
+     * @param png Captured PNG bytes
+     * @return Future of the file path, completed with null if the write fails
+     */
+    public static CompletableFuture<String> write(String screenshotPath, byte[] png) {
+        return CompletableFuture.supplyAsync(() -> writeFile(screenshotPath, png), getExecutor())
+                .exceptionally(e -> {
+                    logger.error("Failed to write screenshot: " + screenshotPath, e);
+                    return null;
+                });
+    }
+
+    /**
+     * Store a screenshot under its requested name or, with hashed storage, under its content hash
+     * @param screenshotPath Requested file path
+     * @param png PNG bytes
+     * @return Stored file path or null on failure
+     */
+    private static String writeFile(String screenshotPath, byte[] png) {
+        Path requested = Paths.get(screenshotPath);
+        try {
+            if (ConfigReader.isScreenshotHashedStorage()) {
+                Path directory = Objects.nonNull(requested.getParent()) ? requested.getParent() : Paths.get("");
+                return ScreenshotStore.store(directory, png);
+            }
+            writeAtomically(requested, png);
+            logger.info("Screenshot taken: " + screenshotPath);
+            return screenshotPath;
+        } catch (IOException | RuntimeException e) {
+            logger.error("Failed to write screenshot: " + screenshotPath, e);
+            return null;
+        }
+    }
+
+    /**
+     * Write the bytes to a temporary file and move it into place, so a path never shows a partial image
+     * @param target Target file
+     * @param bytes File content
+     */
+    static void writeAtomically(Path target, byte[] bytes) throws IOException {
+        Path directory = target.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, target.getFileName().toString(), ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Create the writer pool on first use
+     * @return Writer pool
+     */
+    private static synchronized ThreadPoolExecutor getExecutor() {
+        if (Objects.isNull(executor)) {
+            int threads = ConfigReader.getScreenshotWriterThreads();
+            AtomicInteger count = new AtomicInteger();
+            executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(ConfigReader.getScreenshotQueueCapacity()),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "screenshot-writer-" + count.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    },
+                    new ThreadPoolExecutor.CallerRunsPolicy());
+            executor.execute(() -> ScreenshotStore.applyRetention(ConfigReader.getScreenshotPath()));
+            logger.info("Screenshot writer started with " + threads + " threads");
+        }
+        return executor;
+    }
+}
\ No newline at end of file
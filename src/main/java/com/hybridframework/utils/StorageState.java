@@ -0,0 +1,115 @@
+package com.hybridframework.utils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Snapshot of an authenticated browser session (cookies, local storage and session storage)
+ */
+public class StorageState {
+
+    private String account;
+    private String origin;
+    private long capturedAt;
+    private List<Map<String, Object>> cookies = new ArrayList<>();
+    private Map<String, String> localStorage = new HashMap<>();
+    private Map<String, String> sessionStorage = new HashMap<>();
+
+    /**
+     * Get account the state belongs to
+     * @return Account key
+     */
+    public String getAccount() {
+        return account;
+    }
+
+    /**
+     * Set account the state belongs to
+     * @param account Account key
+     */
+    public void setAccount(String account) {
+        this.account = account;
+    }
+
+    /**
+     * Get origin (scheme, host and port) the state was captured on
+     * @return Origin
+     */
+    public String getOrigin() {
+        return origin;
+    }
+
+    /**
+     * Set origin the state was captured on
+     * @param origin Origin
+     */
+    public void setOrigin(String origin) {
+        this.origin = origin;
+    }
+
+    /**
+     * Get capture time in epoch milliseconds
+     * @return Capture time
+     */
+    public long getCapturedAt() {
+        return capturedAt;
+    }
+
+    /**
+     * Set capture time in epoch milliseconds
+     * @param capturedAt Capture time
+     */
+    public void setCapturedAt(long capturedAt) {
+        this.capturedAt = capturedAt;
+    }
+
+    /**
+     * Get captured cookies
+     * @return List of cookie attribute maps
+     */
+    public List<Map<String, Object>> getCookies() {
+        return cookies;
+    }
+
+    /**
+     * Set captured cookies
+     * @param cookies List of cookie attribute maps
+     */
+    public void setCookies(List<Map<String, Object>> cookies) {
+        this.cookies = cookies;
+    }
+
+    /**
+     * Get captured local storage entries
+     * @return Local storage entries
+     */
+    public Map<String, String> getLocalStorage() {
+        return localStorage;
+    }
+
+    /**
+     * Set captured local storage entries
+     * @param localStorage Local storage entries
+     */
+    public void setLocalStorage(Map<String, String> localStorage) {
+        this.localStorage = localStorage;
+    }
+
+    /**
+     * Get captured session storage entries
+     * @return Session storage entries
+     */
+    public Map<String, String> getSessionStorage() {
+        return sessionStorage;
+    }
+
+    /**
+     * Set captured session storage entries
+     * @param sessionStorage Session storage entries
+     */
+    public void setSessionStorage(Map<String, String> sessionStorage) {
+        this.sessionStorage = sessionStorage;
+    }
+}
\ No newline at end of file
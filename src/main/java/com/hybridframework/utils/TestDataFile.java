@@ -0,0 +1,24 @@
+package com.hybridframework.utils;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the data file feeding a test through the {@link TestDataSources#testData} data provider
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface TestDataFile {
+
+    /**
+     * Data file, absolute or relative to the configured test data path
+     */
+    String value();
+
+    /**
+     * Sheet name (Excel) or array key (JSON); ignored for CSV
+     */
+    String key() default "";
+}
\ No newline at end of file
@@ -0,0 +1,135 @@
+package com.hybridframework.utils;
+
+import com.hybridframework.constants.FrameworkConstants;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Index of test data rows by test case key, built once per data file and invalidated when
+ * the file changes. Lookups are O(1) instead of reloading and scanning the file each time.
+ */
+public class TestDataIndex {
+
+    private static final Logger logger = LogManager.getLogger(TestDataIndex.class);
+    private static final Map<String, IndexEntry> indexes = new ConcurrentHashMap<>();
+    private static final ExecutorService preloader = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "test-data-preloader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Index of one data set together with the file version it was built from
+     */
+    private static final class IndexEntry {
+        private final long lastModified;
+        private final long length;
+        private final Map<String, Map<String, String>> rowsByKey;
+
+        private IndexEntry(long lastModified, long length, Map<String, Map<String, String>> rowsByKey) {
+            this.lastModified = lastModified;
+            this.length = length;
+            this.rowsByKey = rowsByKey;
+        }
+
+        private boolean isCurrent(File file) {
+            return lastModified == file.lastModified() && length == file.length();
+        }
+    }
+
+    /**
+     * Look up a data row by key
+     * @param filePath Data file path of any registered format
+     * @param dataKey Sheet name (Excel) or array key (JSON)
+     * @param keyColumn Column holding the row key, e.g. TestCase
+     * @param key Row key to look up
+     * @return Row data or null if no row has the key
+     */
+    public static Map<String, String> lookup(String filePath, String dataKey, String keyColumn, String key) {
+        return getIndex(filePath, dataKey, keyColumn).get(key);
+    }
+
+    /**
+     * Build indexes for the given data sets on a background thread
+     * @param filePath Data file path
+     * @param dataKey Sheet name (Excel) or array key (JSON)
+     * @param keyColumn Column holding the row key
+     */
+    public static void preloadAsync(String filePath, String dataKey, String keyColumn) {
+        if (!new File(filePath).exists()) {
+            return;
+        }
+
+        preloader.submit(() -> {
+            try {
+                getIndex(filePath, dataKey, keyColumn);
+            } catch (Exception e) {
+                logger.warn("Failed to preload test data index: " + filePath + " - " + dataKey, e);
+            }
+        });
+    }
+
+    /**
+     * Preload the indexes for the framework's default login data files
+     */
+    public static void preloadDefaults() {
+        String testDataPath = ConfigReader.getTestDataPath();
+        preloadAsync(testDataPath + FrameworkConstants.JSON_TEST_DATA, FrameworkConstants.LOGIN_TEST_DATA_KEY, FrameworkConstants.JSON_TEST_CASE_COLUMN);
+        preloadAsync(testDataPath + ConfigReader.getExcelTestData(), FrameworkConstants.LOGIN_SHEET, FrameworkConstants.EXCEL_TEST_CASE_COLUMN);
+    }
+
+    /**
+     * Get the index for a data set, building it if missing or stale
+     * @param filePath Data file path
+     * @param dataKey Sheet name or array key
+     * @param keyColumn Column holding the row key
+     * @return Rows by key
+     */
+    private static Map<String, Map<String, String>> getIndex(String filePath, String dataKey, String keyColumn) {
+        File file = new File(filePath);
+        String indexKey = file.getAbsolutePath() + "#" + dataKey + "#" + keyColumn;
+
+        IndexEntry entry = indexes.get(indexKey);
+        if (Objects.nonNull(entry) && entry.isCurrent(file)) {
+            return entry.rowsByKey;
+        }
+
+        return indexes.compute(indexKey, (k, current) ->
+                Objects.nonNull(current) && current.isCurrent(file) ? current : build(file, dataKey, keyColumn)).rowsByKey;
+    }
+
+    /**
+     * Build an index from a data file
+     * @param file Data file
+     * @param dataKey Sheet name or array key
+     * @param keyColumn Column holding the row key
+     * @return Index entry
+     */
+    private static IndexEntry build(File file, String dataKey, String keyColumn) {
+        long lastModified = file.lastModified();
+        long length = file.length();
+
+        List<Map<String, String>> rows = TestDataSources.load(file.getPath(), dataKey).asMaps();
+        Map<String, Map<String, String>> rowsByKey = new HashMap<>();
+        for (Map<String, String> row : rows) {
+            String key = row.get(keyColumn);
+            if (Objects.nonNull(key)) {
+                // First occurrence wins, matching the previous linear scan
+                rowsByKey.putIfAbsent(key, row);
+            }
+        }
+
+        logger.info("Indexed " + rowsByKey.size() + " rows by " + keyColumn + ": " + file.getPath() + " - " + dataKey);
+        return new IndexEntry(lastModified, length, Collections.unmodifiableMap(rowsByKey));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.hybridframework.utils;
+
+/**
+ * Backend reading one test data format into a {@link TestDataTable}. Backends are looked up
+ * by file through {@link TestDataSources}; register additional ones there.
+ */
+public interface TestDataSource {
+
+    /**
+     * Check if this backend reads the given file
+     * @param filePath Data file path
+     * @return True if supported, usually decided by file extension
+     */
+    boolean supports(String filePath);
+
+    /**
+     * Load a data set
+     * @param filePath Data file path
+     * @param dataKey Sheet name, array key or other backend-specific selector; may be ignored
+     * @return Test data table
+     */
+    TestDataTable getTable(String filePath, String dataKey);
+}
\ No newline at end of file
@@ -0,0 +1,118 @@
+package com.hybridframework.utils;
+
+import com.hybridframework.constants.FrameworkConstants;
+import org.testng.annotations.DataProvider;
+
+import java.io.File;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiFunction;
+
+/**
+ * Registry of {@link TestDataSource} backends, chosen by file extension, and a single TestNG
+ * data provider serving any registered format:
+ *
+ * <pre>
+ * &#64;Test(dataProvider = "testData", dataProviderClass = TestDataSources.class)
+ * &#64;TestDataFile(value = "Users.csv")
+ * public void userTest(Map&lt;String, String&gt; data) { ... }
+ * </pre>
+ */
+public class TestDataSources {
+
+    private static final List<TestDataSource> sources = new CopyOnWriteArrayList<>();
+
+    static {
+        sources.add(new ExtensionDataSource(FrameworkConstants.EXCEL_EXTENSION, ExcelDataSource::getSheetTable));
+        sources.add(new ExtensionDataSource(FrameworkConstants.JSON_EXTENSION, JsonUtils::getTestDataTable));
+        sources.add(new CsvDataSource());
+    }
+
+    /**
+     * Register a backend; it takes precedence over those registered before it
+     * @param source Test data backend
+     */
+    public static void register(TestDataSource source) {
+        sources.add(0, source);
+    }
+
+    /**
+     * Find the backend for a file
+     * @param filePath Data file path
+     * @return Test data backend
+     */
+    public static TestDataSource forFile(String filePath) {
+        for (TestDataSource source : sources) {
+            if (source.supports(filePath)) {
+                return source;
+            }
+        }
+        throw new IllegalArgumentException("No test data source registered for file: " + filePath);
+    }
+
+    /**
+     * Load a data set with the backend matching the file
+     * @param filePath Data file path
+     * @param dataKey Sheet name, array key, or empty for CSV
+     * @return Test data table
+     */
+    public static TestDataTable load(String filePath, String dataKey) {
+        return forFile(filePath).getTable(filePath, dataKey);
+    }
+
+    /**
+     * Data provider reading the file declared by the test method's {@link TestDataFile}
+     * @param method Test method
+     * @return One {rowMap} parameter set per data row
+     */
+    @DataProvider(name = "testData")
+    public static Object[][] testData(Method method) {
+        TestDataFile dataFile = method.getAnnotation(TestDataFile.class);
+        if (Objects.isNull(dataFile)) {
+            throw new IllegalStateException("Test method " + method.getName() + " has no @TestDataFile annotation");
+        }
+
+        List<Map<String, String>> rows = load(resolvePath(dataFile.value()), dataFile.key()).asMaps();
+        Object[][] data = new Object[rows.size()][];
+        for (int i = 0; i < rows.size(); i++) {
+            data[i] = new Object[]{rows.get(i)};
+        }
+        return data;
+    }
+
+    /**
+     * Resolve a data file against the configured test data path unless it exists as given
+     * @param file Data file
+     * @return Resolved path
+     */
+    private static String resolvePath(String file) {
+        return new File(file).exists() ? file : ConfigReader.getTestDataPath() + file;
+    }
+
+    /**
+     * Backend delegating to an existing loader for one file extension
+     */
+    private static final class ExtensionDataSource implements TestDataSource {
+
+        private final String extension;
+        private final BiFunction<String, String, TestDataTable> loader;
+
+        private ExtensionDataSource(String extension, BiFunction<String, String, TestDataTable> loader) {
+            this.extension = extension;
+            this.loader = loader;
+        }
+
+        @Override
+        public boolean supports(String filePath) {
+            return filePath.endsWith(extension);
+        }
+
+        @Override
+        public TestDataTable getTable(String filePath, String dataKey) {
+            return loader.apply(filePath, dataKey);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,253 @@
+package com.hybridframework.utils;
+
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Immutable test data set with a shared schema. Headers are stored once per table and each
+ * row is a plain String array, with repeated values pooled, instead of a hash map per row
+ * repeating every key. {@link #asMaps()} exposes the rows as read-only maps for callers that
+ * expect {@code List<Map<String, String>>}.
+ */
+public final class TestDataTable {
+
+    private final String[] headers;
+    private final Map<String, Integer> columns;
+    private final String[][] rows;
+    private final List<Map<String, String>> rowMaps;
+
+    private TestDataTable(String[] headers, Map<String, Integer> columns, String[][] rows) {
+        this.headers = headers;
+        this.columns = columns;
+        this.rows = rows;
+        this.rowMaps = new RowList();
+    }
+
+    /**
+     * Create a builder for a new table
+     * @return Table builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Get the column headers in order
+     * @return Unmodifiable header list
+     */
+    public List<String> getHeaders() {
+        return Collections.unmodifiableList(Arrays.asList(headers));
+    }
+
+    /**
+     * Get the number of data rows
+     * @return Row count
+     */
+    public int size() {
+        return rows.length;
+    }
+
+    /**
+     * Get a single cell value
+     * @param rowIndex Row index
+     * @param column Column header
+     * @return Cell value or null if the row has no value for the column
+     */
+    public String getValue(int rowIndex, String column) {
+        Integer col = columns.get(column);
+        return Objects.nonNull(col) ? valueAt(rows[rowIndex], col) : null;
+    }
+
+    /**
+     * Get a row as a read-only map view
+     * @param rowIndex Row index
+     * @return Row map
+     */
+    public Map<String, String> getRow(int rowIndex) {
+        return rowMaps.get(rowIndex);
+    }
+
+    /**
+     * Get all rows as read-only map views; the same list instance is returned on every call
+     * @return Row maps
+     */
+    public List<Map<String, String>> asMaps() {
+        return rowMaps;
+    }
+
+    private static String valueAt(String[] row, int col) {
+        return col < row.length ? row[col] : null;
+    }
+
+    /**
+     * List view creating lightweight row maps on access
+     */
+    private final class RowList extends AbstractList<Map<String, String>> {
+        @Override
+        public Map<String, String> get(int index) {
+            return new RowMap(rows[index]);
+        }
+
+        @Override
+        public int size() {
+            return rows.length;
+        }
+    }
+
+    /**
+     * Read-only map over one row array, ordered by header; absent values are not mapped
+     */
+    private final class RowMap extends AbstractMap<String, String> {
+
+        private final String[] values;
+
+        private RowMap(String[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public String get(Object key) {
+            Integer col = columns.get(key);
+            return Objects.nonNull(col) ? valueAt(values, col) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return Objects.nonNull(get(key));
+        }
+
+        @Override
+        public Set<Entry<String, String>> entrySet() {
+            return new AbstractSet<Entry<String, String>>() {
+                @Override
+                public Iterator<Entry<String, String>> iterator() {
+                    return new Iterator<Entry<String, String>>() {
+                        private int col = advance(0);
+
+                        private int advance(int from) {
+                            int next = from;
+                            while (next < values.length && Objects.isNull(values[next])) {
+                                next++;
+                            }
+                            return next;
+                        }
+
+                        @Override
+                        public boolean hasNext() {
+                            return col < values.length;
+                        }
+
+                        @Override
+                        public Entry<String, String> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            Entry<String, String> entry = new SimpleImmutableEntry<>(headers[col], values[col]);
+                            col = advance(col + 1);
+                            return entry;
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    int count = 0;
+                    for (String value : values) {
+                        if (Objects.nonNull(value)) {
+                            count++;
+                        }
+                    }
+                    return count;
+                }
+            };
+        }
+    }
+
+    /**
+     * Builds a table row by row, growing the schema as new headers appear
+     */
+    public static final class Builder {
+
+        private final List<String> headers = new ArrayList<>();
+        private final Map<String, Integer> columns = new HashMap<>();
+        private final Map<String, String> valuePool = new HashMap<>();
+        private final List<String[]> rows = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Add a column, or find an existing one
+         * @param header Column header
+         * @return Column index
+         */
+        public int addColumn(String header) {
+            Integer col = columns.get(header);
+            if (Objects.isNull(col)) {
+                col = headers.size();
+                String interned = header.intern();
+                headers.add(interned);
+                columns.put(interned, col);
+            }
+            return col;
+        }
+
+        /**
+         * Add a row of values in column order
+         * @param values Row values; null marks an absent value
+         * @return This builder
+         */
+        public Builder addRow(String... values) {
+            String[] row = new String[values.length];
+            for (int col = 0; col < values.length; col++) {
+                row[col] = pool(values[col]);
+            }
+            rows.add(row);
+            return this;
+        }
+
+        /**
+         * Add a row from a map, adding columns for unseen keys
+         * @param values Row values by header
+         * @return This builder
+         */
+        public Builder addRow(Map<String, String> values) {
+            String[] row = new String[headers.size() + values.size()];
+            int width = 0;
+            for (Map.Entry<String, String> entry : values.entrySet()) {
+                int col = addColumn(entry.getKey());
+                row[col] = pool(entry.getValue());
+                width = Math.max(width, col + 1);
+            }
+            rows.add(Arrays.copyOf(row, width));
+            return this;
+        }
+
+        /**
+         * Build the immutable table
+         * @return Test data table
+         */
+        public TestDataTable build() {
+            return new TestDataTable(headers.toArray(new String[0]), new HashMap<>(columns), rows.toArray(new String[0][]));
+        }
+
+        private String pool(String value) {
+            if (Objects.isNull(value)) {
+                return null;
+            }
+            String pooled = valuePool.putIfAbsent(value, value);
+            return Objects.nonNull(pooled) ? pooled : value;
+        }
+    }
+}
\ No newline at end of file
@@ -2,25 +2,27 @@ package com.hybridframework.utils;
 
 import com.hybridframework.constants.FrameworkConstants;
 import com.hybridframework.drivers.DriverManager;
-import org.apache.commons.io.FileUtils;
+import com.hybridframework.drivers.NavigationManager;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.*;
 import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.ui.*;
 
-import java.io.File;
-import java.io.IOException;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * Utility class for common WebDriver operations
  */
+@SuppressWarnings("try")
 public class WebDriverUtils {
     
     private static final Logger logger = LogManager.getLogger(WebDriverUtils.class);
@@ -30,10 +32,14 @@ public class WebDriverUtils {
      * @param url URL to navigate to
      */
     public static void navigateToUrl(String url) {
-        try {
+        NavigationCircuitBreaker.ensureClosed();
+        try (PhaseTimer.Scope ignored = PhaseTimer.enter(PhaseTimer.Phase.NAVIGATION)) {
             DriverManager.getDriver().get(url);
+            NavigationManager.markDirty();
+            NavigationCircuitBreaker.recordSuccess();
             logger.info("Navigated to URL: " + url);
         } catch (Exception e) {
+            NavigationCircuitBreaker.recordFailure(url, e);
             logger.error("Failed to navigate to URL: " + url, e);
             throw new RuntimeException("Failed to navigate to URL: " + url, e);
         }
@@ -67,7 +73,7 @@ public class WebDriverUtils {
      * Refresh page
      */
     public static void refreshPage() {
-        try {
+        try (PhaseTimer.Scope ignored = PhaseTimer.enter(PhaseTimer.Phase.NAVIGATION)) {
             DriverManager.getDriver().navigate().refresh();
             logger.info("Page refreshed successfully");
         } catch (Exception e) {
@@ -80,7 +86,7 @@ public class WebDriverUtils {
      * Navigate back
      */
     public static void navigateBack() {
-        try {
+        try (PhaseTimer.Scope ignored = PhaseTimer.enter(PhaseTimer.Phase.NAVIGATION)) {
             DriverManager.getDriver().navigate().back();
             logger.info("Navigated back successfully");
         } catch (Exception e) {
@@ -93,7 +99,7 @@ public class WebDriverUtils {
      * Navigate forward
      */
     public static void navigateForward() {
-        try {
+        try (PhaseTimer.Scope ignored = PhaseTimer.enter(PhaseTimer.Phase.NAVIGATION)) {
             DriverManager.getDriver().navigate().forward();
             logger.info("Navigated forward successfully");
         } catch (Exception e) {
@@ -108,7 +114,7 @@ public class WebDriverUtils {
      * @return WebElement
      */
     public static WebElement findElementWithWait(By locator) {
-        try {
+        try (PhaseTimer.Scope ignored = PhaseTimer.enter(PhaseTimer.Phase.WAIT)) {
             WebDriverWait wait = new WebDriverWait(DriverManager.getDriver(), Duration.ofSeconds(ConfigReader.getExplicitWait()));
             return wait.until(ExpectedConditions.presenceOfElementLocated(locator));
         } catch (Exception e) {
@@ -123,7 +129,7 @@ public class WebDriverUtils {
      * @return List of WebElements
      */
     public static List<WebElement> findElementsWithWait(By locator) {
-        try {
+        try (PhaseTimer.Scope ignored = PhaseTimer.enter(PhaseTimer.Phase.WAIT)) {
             WebDriverWait wait = new WebDriverWait(DriverManager.getDriver(), Duration.ofSeconds(ConfigReader.getExplicitWait()));
             return wait.until(ExpectedConditions.presenceOfAllElementsLocatedBy(locator));
         } catch (Exception e) {
@@ -138,7 +144,7 @@ public class WebDriverUtils {
      * @return WebElement
      */
     public static WebElement waitForElementToBeClickable(By locator) {
-        try {
+        try (PhaseTimer.Scope ignored = PhaseTimer.enter(PhaseTimer.Phase.WAIT)) {
             WebDriverWait wait = new WebDriverWait(DriverManager.getDriver(), Duration.ofSeconds(ConfigReader.getExplicitWait()));
             return wait.until(ExpectedConditions.elementToBeClickable(locator));
         } catch (Exception e) {
@@ -153,7 +159,7 @@ public class WebDriverUtils {
      * @return WebElement
      */
     public static WebElement waitForElementToBeVisible(By locator) {
-        try {
+        try (PhaseTimer.Scope ignored = PhaseTimer.enter(PhaseTimer.Phase.WAIT)) {
             WebDriverWait wait = new WebDriverWait(DriverManager.getDriver(), Duration.ofSeconds(ConfigReader.getExplicitWait()));
             return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
         } catch (Exception e) {
@@ -168,7 +174,7 @@ public class WebDriverUtils {
      * @return Boolean
      */
     public static boolean waitForElementToBeInvisible(By locator) {
-        try {
+        try (PhaseTimer.Scope ignored = PhaseTimer.enter(PhaseTimer.Phase.WAIT)) {
             WebDriverWait wait = new WebDriverWait(DriverManager.getDriver(), Duration.ofSeconds(ConfigReader.getExplicitWait()));
             return wait.until(ExpectedConditions.invisibilityOfElementLocated(locator));
         } catch (Exception e) {
@@ -182,9 +188,10 @@ public class WebDriverUtils {
      * @param locator Element locator
      */
     public static void clickElement(By locator) {
-        try {
+        try (PhaseTimer.Scope ignored = PhaseTimer.enter(PhaseTimer.Phase.ACTION)) {
             WebElement element = waitForElementToBeClickable(locator);
             element.click();
+            NavigationManager.markDirty();
             logger.info("Clicked element: " + locator);
         } catch (Exception e) {
             logger.error("Failed to click element: " + locator, e);
@@ -197,10 +204,11 @@ public class WebDriverUtils {
      * @param locator Element locator
      */
     public static void clickElementUsingJS(By locator) {
-        try {
+        try (PhaseTimer.Scope ignored = PhaseTimer.enter(PhaseTimer.Phase.ACTION)) {
             WebElement element = findElementWithWait(locator);
             JavascriptExecutor js = (JavascriptExecutor) DriverManager.getDriver();
             js.executeScript("arguments[0].click();", element);
+            NavigationManager.markDirty();
             logger.info("Clicked element using JavaScript: " + locator);
         } catch (Exception e) {
             logger.error("Failed to click element using JavaScript: " + locator, e);
@@ -214,10 +222,11 @@ public class WebDriverUtils {
      * @param text Text to send
      */
     public static void sendKeys(By locator, String text) {
-        try {
+        try (PhaseTimer.Scope ignored = PhaseTimer.enter(PhaseTimer.Phase.ACTION)) {
             WebElement element = waitForElementToBeVisible(locator);
             element.clear();
             element.sendKeys(text);
+            NavigationManager.markDirty();
             logger.info("Sent keys to element: " + locator + " with text: " + text);
         } catch (Exception e) {
             logger.error("Failed to send keys to element: " + locator, e);
@@ -231,7 +240,7 @@ public class WebDriverUtils {
      * @return Element text
      */
     public static String getText(By locator) {
-        try {
+        try (PhaseTimer.Scope ignored = PhaseTimer.enter(PhaseTimer.Phase.ACTION)) {
             WebElement element = waitForElementToBeVisible(locator);
             String text = element.getText();
             logger.info("Got text from element: " + locator + " - " + text);
@@ -249,7 +258,7 @@ public class WebDriverUtils {
      * @return Attribute value
      */
     public static String getAttribute(By locator, String attributeName) {
-        try {
+        try (PhaseTimer.Scope ignored = PhaseTimer.enter(PhaseTimer.Phase.ACTION)) {
             WebElement element = waitForElementToBeVisible(locator);
             String attributeValue = element.getAttribute(attributeName);
             logger.info("Got attribute value from element: " + locator + " - " + attributeName + " = " + attributeValue);
@@ -266,7 +275,7 @@ public class WebDriverUtils {
      * @return True if element is displayed
      */
     public static boolean isElementDisplayed(By locator) {
-        try {
+        try (PhaseTimer.Scope ignored = PhaseTimer.enter(PhaseTimer.Phase.ACTION)) {
             WebElement element = DriverManager.getDriver().findElement(locator);
             return element.isDisplayed();
         } catch (Exception e) {
@@ -280,7 +289,7 @@ public class WebDriverUtils {
      * @return True if element is enabled
      */
     public static boolean isElementEnabled(By locator) {
-        try {
+        try (PhaseTimer.Scope ignored = PhaseTimer.enter(PhaseTimer.Phase.ACTION)) {
             WebElement element = DriverManager.getDriver().findElement(locator);
             return element.isEnabled();
         } catch (Exception e) {
@@ -294,7 +303,7 @@ public class WebDriverUtils {
      * @return True if element is selected
      */
     public static boolean isElementSelected(By locator) {
-        try {
+        try (PhaseTimer.Scope ignored = PhaseTimer.enter(PhaseTimer.Phase.ACTION)) {
             WebElement element = DriverManager.getDriver().findElement(locator);
             return element.isSelected();
         } catch (Exception e) {
@@ -308,10 +317,11 @@ public class WebDriverUtils {
      * @param optionText Option text to select
      */
     public static void selectDropdownByText(By locator, String optionText) {
-        try {
+        try (PhaseTimer.Scope ignored = PhaseTimer.enter(PhaseTimer.Phase.ACTION)) {
             WebElement element = waitForElementToBeVisible(locator);
             Select dropdown = new Select(element);
             dropdown.selectByVisibleText(optionText);
+            NavigationManager.markDirty();
             logger.info("Selected dropdown option by text: " + optionText);
         } catch (Exception e) {
             logger.error("Failed to select dropdown option by text: " + optionText, e);
@@ -325,10 +335,11 @@ public class WebDriverUtils {
      * @param optionValue Option value to select
      */
     public static void selectDropdownByValue(By locator, String optionValue) {
-        try {
+        try (PhaseTimer.Scope ignored = PhaseTimer.enter(PhaseTimer.Phase.ACTION)) {
             WebElement element = waitForElementToBeVisible(locator);
             Select dropdown = new Select(element);
             dropdown.selectByValue(optionValue);
+            NavigationManager.markDirty();
             logger.info("Selected dropdown option by value: " + optionValue);
         } catch (Exception e) {
             logger.error("Failed to select dropdown option by value: " + optionValue, e);
@@ -342,10 +353,11 @@ public class WebDriverUtils {
      * @param optionIndex Option index to select
      */
     public static void selectDropdownByIndex(By locator, int optionIndex) {
-        try {
+        try (PhaseTimer.Scope ignored = PhaseTimer.enter(PhaseTimer.Phase.ACTION)) {
             WebElement element = waitForElementToBeVisible(locator);
             Select dropdown = new Select(element);
             dropdown.selectByIndex(optionIndex);
+            NavigationManager.markDirty();
             logger.info("Selected dropdown option by index: " + optionIndex);
         } catch (Exception e) {
             logger.error("Failed to select dropdown option by index: " + optionIndex, e);
@@ -354,28 +366,36 @@ public class WebDriverUtils {
     }
     
     /**
-     * Take screenshot
+     * Take screenshot and wait until it is written
      * @param testName Test name for screenshot file
-     * @return Screenshot file path
+     * @return Screenshot file path, or null if the screenshot fails
      */
     public static String takeScreenshot(String testName) {
-        String screenshotPath = null;
         try {
+            return takeScreenshotAsync(testName).join();
+        } catch (CompletionException | CancellationException e) {
+            logger.error("Failed to write screenshot", e);
+            return null;
+        }
+    }
+    
+    /**
+     * Capture a screenshot as bytes and write it in the background
+     * @param testName Test name for screenshot file
+     * @return Future of the screenshot file path, completed with null if the screenshot fails
+     */
+    public static CompletableFuture<String> takeScreenshotAsync(String testName) {
+        try (PhaseTimer.Scope ignored = PhaseTimer.enter(PhaseTimer.Phase.SCREENSHOT)) {
             TakesScreenshot screenshot = (TakesScreenshot) DriverManager.getDriver();
-            File sourceFile = screenshot.getScreenshotAs(OutputType.FILE);
+            byte[] png = screenshot.getScreenshotAs(OutputType.BYTES);
             
             String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss"));
             String fileName = FrameworkConstants.SCREENSHOT_PREFIX + testName + "_" + timestamp + FrameworkConstants.SCREENSHOT_EXTENSION;
-            screenshotPath = ConfigReader.getScreenshotPath() + fileName;
-            
-            File destinationFile = new File(screenshotPath);
-            FileUtils.copyFile(sourceFile, destinationFile);
-            
-            logger.info("Screenshot taken: " + screenshotPath);
-        } catch (IOException e) {
+            return ScreenshotWriter.write(ConfigReader.getScreenshotPath() + fileName, png);
+        } catch (RuntimeException e) {
             logger.error("Failed to take screenshot", e);
+            return CompletableFuture.completedFuture(null);
         }
-        return screenshotPath;
     }
     
     /**
@@ -383,7 +403,7 @@ public class WebDriverUtils {
      * @param windowTitle Window title
      */
     public static void switchToWindowByTitle(String windowTitle) {
-        try {
+        try (PhaseTimer.Scope ignored = PhaseTimer.enter(PhaseTimer.Phase.ACTION)) {
             Set<String> windowHandles = DriverManager.getDriver().getWindowHandles();
             for (String windowHandle : windowHandles) {
                 DriverManager.getDriver().switchTo().window(windowHandle);
@@ -404,7 +424,7 @@ public class WebDriverUtils {
      * @param frameIndex Frame index
      */
     public static void switchToFrameByIndex(int frameIndex) {
-        try {
+        try (PhaseTimer.Scope ignored = PhaseTimer.enter(PhaseTimer.Phase.ACTION)) {
             DriverManager.getDriver().switchTo().frame(frameIndex);
             logger.info("Switched to frame by index: " + frameIndex);
         } catch (Exception e) {
@@ -418,7 +438,7 @@ public class WebDriverUtils {
      * @param frameNameOrId Frame name or id
      */
     public static void switchToFrameByNameOrId(String frameNameOrId) {
-        try {
+        try (PhaseTimer.Scope ignored = PhaseTimer.enter(PhaseTimer.Phase.ACTION)) {
             DriverManager.getDriver().switchTo().frame(frameNameOrId);
             logger.info("Switched to frame by name or id: " + frameNameOrId);
         } catch (Exception e) {
@@ -431,7 +451,7 @@ public class WebDriverUtils {
      * Switch to default content
      */
     public static void switchToDefaultContent() {
-        try {
+        try (PhaseTimer.Scope ignored = PhaseTimer.enter(PhaseTimer.Phase.ACTION)) {
             DriverManager.getDriver().switchTo().defaultContent();
             logger.info("Switched to default content");
         } catch (Exception e) {
@@ -444,9 +464,10 @@ public class WebDriverUtils {
      * Accept alert
      */
     public static void acceptAlert() {
-        try {
+        try (PhaseTimer.Scope ignored = PhaseTimer.enter(PhaseTimer.Phase.ACTION)) {
             Alert alert = DriverManager.getDriver().switchTo().alert();
             alert.accept();
+            NavigationManager.markDirty();
             logger.info("Alert accepted");
         } catch (Exception e) {
             logger.error("Failed to accept alert", e);
@@ -458,9 +479,10 @@ public class WebDriverUtils {
      * Dismiss alert
      */
     public static void dismissAlert() {
-        try {
+        try (PhaseTimer.Scope ignored = PhaseTimer.enter(PhaseTimer.Phase.ACTION)) {
             Alert alert = DriverManager.getDriver().switchTo().alert();
             alert.dismiss();
+            NavigationManager.markDirty();
             logger.info("Alert dismissed");
         } catch (Exception e) {
             logger.error("Failed to dismiss alert", e);
@@ -473,7 +495,7 @@ public class WebDriverUtils {
      * @return Alert text
      */
     public static String getAlertText() {
-        try {
+        try (PhaseTimer.Scope ignored = PhaseTimer.enter(PhaseTimer.Phase.ACTION)) {
             Alert alert = DriverManager.getDriver().switchTo().alert();
             String alertText = alert.getText();
             logger.info("Got alert text: " + alertText);
@@ -489,9 +511,10 @@ public class WebDriverUtils {
      * @param text Text to send
      */
     public static void sendKeysToAlert(String text) {
-        try {
+        try (PhaseTimer.Scope ignored = PhaseTimer.enter(PhaseTimer.Phase.ACTION)) {
             Alert alert = DriverManager.getDriver().switchTo().alert();
             alert.sendKeys(text);
+            NavigationManager.markDirty();
             logger.info("Sent keys to alert: " + text);
         } catch (Exception e) {
             logger.error("Failed to send keys to alert", e);
@@ -504,7 +527,7 @@ public class WebDriverUtils {
      * @param locator Element locator
      */
     public static void scrollToElement(By locator) {
-        try {
+        try (PhaseTimer.Scope ignored = PhaseTimer.enter(PhaseTimer.Phase.ACTION)) {
             WebElement element = findElementWithWait(locator);
             JavascriptExecutor js = (JavascriptExecutor) DriverManager.getDriver();
             js.executeScript("arguments[0].scrollIntoView(true);", element);
@@ -520,7 +543,7 @@ public class WebDriverUtils {
      * @param seconds Seconds to wait
      */
     public static void waitForSeconds(int seconds) {
-        try {
+        try (PhaseTimer.Scope ignored = PhaseTimer.enter(PhaseTimer.Phase.SLEEP)) {
             Thread.sleep(seconds * 1000L);
             logger.info("Waited for " + seconds + " seconds");
         } catch (InterruptedException e) {
@@ -1,11 +1,93 @@
 package com.hybridframework.tests;
 
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.markuputils.MarkupHelper;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hybridframework.base.ScenarioBatch;
+import com.hybridframework.constants.FrameworkConstants;
+import com.hybridframework.drivers.DriverManager;
+import com.hybridframework.drivers.NavigationManager;
+import com.hybridframework.listeners.FlightRecorderSubscriber;
+import com.hybridframework.listeners.GatingListener;
+import com.hybridframework.listeners.TestLifecycleBus;
+import com.hybridframework.listeners.TestLifecycleEvent;
+import com.hybridframework.utils.AuthStateCache;
 import com.hybridframework.utils.ConfigReader;
+import com.hybridframework.utils.ConfigSnapshot;
+import com.hybridframework.utils.EnvironmentProbe;
+import com.hybridframework.utils.ExcelDataSource;
+import com.hybridframework.utils.ExcelResultWriter;
+import com.hybridframework.utils.ExcelStreamReader;
+import com.hybridframework.utils.ExcelUtils;
 import com.hybridframework.utils.ExtentReportManager;
+import com.hybridframework.utils.FlightRecorder;
+import com.hybridframework.utils.JsonStreamReader;
+import com.hybridframework.utils.JsonUtils;
+import com.hybridframework.utils.NavigationCircuitBreaker;
+import com.hybridframework.utils.PairwiseGenerator;
+import com.hybridframework.utils.PhaseTimer;
+import com.hybridframework.utils.ReportBuilder;
+import com.hybridframework.utils.ReportStore;
+import com.hybridframework.utils.ResultHistoryStore;
+import com.hybridframework.utils.ScreenshotStore;
+import com.hybridframework.utils.ScreenshotWriter;
+import com.hybridframework.utils.StorageState;
+import com.hybridframework.utils.TestDataIndex;
+import com.hybridframework.utils.TestDataSources;
+import com.hybridframework.utils.TestDataTable;
+import com.hybridframework.utils.WebDriverUtils;
+import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
 import org.testng.Assert;
+import org.testng.IInvokedMethod;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+import org.testng.SkipException;
 import org.testng.annotations.*;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
 
 /**
  * Framework validation test class - tests framework components without browser
@@ -55,6 +137,8 @@ public class FrameworkTest {
         ExtentReportManager.logInfo("This is an info message");
         ExtentReportManager.logPass("This is a pass message");
         ExtentReportManager.logWarning("This is a warning message");
+        Assert.assertEquals(ExtentReportManager.getTest().getModel().getLogs().size(), 3, "All report events should be applied in order");
+        ExtentReportManager.removeTest();
         
         logger.info("ExtentReport Manager validation passed successfully");
     }
@@ -118,6 +202,863 @@ public class FrameworkTest {
         logger.info("ExtentReport Configuration validation passed successfully");
     }
     
+    @Test(priority = 7, description = "Validate configuration override precedence", groups = {"framework", "smoke"})
+    public void validateConfigPrecedence() {
+        logger.info("Test: Validate configuration override precedence");
+        
+        Properties fileProperties = new Properties();
+        fileProperties.setProperty("browser", "chrome");
+        fileProperties.setProperty("explicit.wait", "20");
+        fileProperties.setProperty("headless", "true");
+        
+        Map<String, String> suiteParameters = new HashMap<>();
+        suiteParameters.put("browser", "firefox");
+        suiteParameters.put("headless", "false");
+        
+        System.setProperty("headless", "true");
+        try {
+            ConfigSnapshot snapshot = ConfigSnapshot.build(fileProperties, suiteParameters);
+            Assert.assertEquals(snapshot.getBrowser(), "firefox", "Suite parameter should override config.properties");
+            Assert.assertTrue(snapshot.isHeadless(), "System property should override suite parameter");
+            Assert.assertEquals(snapshot.getExplicitWait(), 20, "config.properties value should be used when not overridden");
+        } finally {
+            System.clearProperty("headless");
+        }
+        
+        logger.info("Configuration precedence validation passed successfully");
+    }
+    
+    @Test(priority = 8, description = "Validate cached Excel data source", groups = {"framework", "smoke"})
+    public void validateExcelDataSource() throws Exception {
+        logger.info("Test: Validate cached Excel data source");
+        
+        File excelFile = File.createTempFile("FrameworkTest", FrameworkConstants.EXCEL_EXTENSION);
+        excelFile.deleteOnExit();
+        try (Workbook workbook = new XSSFWorkbook(); FileOutputStream fos = new FileOutputStream(excelFile)) {
+            Sheet sheet = workbook.createSheet(FrameworkConstants.LOGIN_SHEET);
+            String[][] cells = {{"TestCase", "username"}, {"ValidLogin", "testuser"}, {"EmptyUsername", ""}};
+            for (int rowNum = 0; rowNum < cells.length; rowNum++) {
+                Row row = sheet.createRow(rowNum);
+                for (int col = 0; col < cells[rowNum].length; col++) {
+                    row.createCell(col).setCellValue(cells[rowNum][col]);
+                }
+            }
+            workbook.write(fos);
+        }
+        
+        List<Map<String, String>> firstRead = ExcelUtils.getAllData(excelFile.getPath(), FrameworkConstants.LOGIN_SHEET);
+        List<Map<String, String>> secondRead = ExcelUtils.getAllData(excelFile.getPath(), FrameworkConstants.LOGIN_SHEET);
+        Assert.assertEquals(firstRead.size(), 2, "Both data rows should be read");
+        Assert.assertSame(secondRead, firstRead, "Unchanged sheet should be served from cache");
+        Assert.assertEquals(firstRead.get(1), Map.of("TestCase", "EmptyUsername", "username", ""), "Row view should behave as a plain map");
+        
+        ExcelDataSource.clearCache();
+        Assert.assertEquals(ExcelUtils.getAllData(excelFile.getPath(), FrameworkConstants.LOGIN_SHEET), firstRead, "Compiled data should match the parsed sheet");
+        Assert.assertEquals(ExcelUtils.getTestData(excelFile.getPath(), FrameworkConstants.LOGIN_SHEET, "ValidLogin").get("username"), "testuser");
+        ExcelUtils.getTestData(excelFile.getPath(), FrameworkConstants.LOGIN_SHEET, "ValidLogin").put("username", "changeduser");
+        Assert.assertEquals(ExcelUtils.getTestData(excelFile.getPath(), FrameworkConstants.LOGIN_SHEET, "ValidLogin").get("username"), "testuser",
+                "Callers should get their own copy of the indexed row");
+        
+        List<Map<String, String>> streamed = new ArrayList<>();
+        ExcelStreamReader.streamRows(excelFile.getPath(), FrameworkConstants.LOGIN_SHEET).forEachRemaining(streamed::add);
+        Assert.assertEquals(streamed, firstRead, "Streamed rows should match the cached dataset");
+        
+        // A failed stream closes itself and keeps reporting the failure
+        ExcelStreamReader missing = ExcelStreamReader.streamRows(excelFile.getPath(), "Missing");
+        Assert.assertThrows(IllegalArgumentException.class, missing::hasNext);
+        Assert.assertThrows(IllegalArgumentException.class, missing::hasNext);
+        
+        logger.info("Excel data source validation passed successfully");
+    }
+    
+    @Test(priority = 9, description = "Validate indexed and streamed JSON test data", groups = {"framework", "smoke"})
+    public void validateTestDataIndex() throws Exception {
+        logger.info("Test: Validate indexed and streamed JSON test data");
+        
+        File jsonFile = File.createTempFile("FrameworkTest", FrameworkConstants.JSON_EXTENSION);
+        jsonFile.deleteOnExit();
+        Files.write(jsonFile.toPath(), "{\"loginTestData\": [{\"testCase\": \"ValidLogin\", \"username\": \"testuser\"}]}".getBytes(StandardCharsets.UTF_8));
+        
+        Assert.assertEquals(JsonUtils.getTestDataByTestCase(jsonFile.getPath(), FrameworkConstants.LOGIN_TEST_DATA_KEY, "ValidLogin").get("username"), "testuser");
+        Assert.assertTrue(JsonUtils.getTestDataByTestCase(jsonFile.getPath(), FrameworkConstants.LOGIN_TEST_DATA_KEY, "Missing").isEmpty());
+        
+        Files.write(jsonFile.toPath(), "{\"loginTestData\": [{\"testCase\": \"ValidLogin\", \"username\": \"changeduser\"}]}".getBytes(StandardCharsets.UTF_8));
+        Assert.assertEquals(JsonUtils.getTestDataByTestCase(jsonFile.getPath(), FrameworkConstants.LOGIN_TEST_DATA_KEY, "ValidLogin").get("username"), "changeduser",
+                "Index should be rebuilt when the data file changes");
+        
+        Files.write(jsonFile.toPath(), "{\"meta\": {\"rows\": [1]}, \"loginTestData\": [{\"testCase\": \"A\", \"retries\": 2}, {\"testCase\": \"B\", \"tags\": [\"x\"]}]}".getBytes(StandardCharsets.UTF_8));
+        List<Map<String, String>> streamed = new ArrayList<>();
+        JsonStreamReader.streamRows(jsonFile.getPath(), FrameworkConstants.LOGIN_TEST_DATA_KEY).forEachRemaining(streamed::add);
+        Assert.assertEquals(streamed.size(), 2, "Records should be streamed past preceding keys");
+        Assert.assertEquals(streamed.get(0).get("retries"), "2");
+        Assert.assertEquals(streamed.get(1).get("tags"), "", "Nested values should read as empty text");
+        
+        logger.info("Test data index validation passed successfully");
+    }
+    
+    @Test(priority = 10, description = "Validate batched Excel result write-back", groups = {"framework", "smoke"})
+    public void validateExcelResultWriter() throws Exception {
+        logger.info("Test: Validate batched Excel result write-back");
+        
+        File resultFile = new File(System.getProperty("java.io.tmpdir"), "FrameworkTestResults" + System.nanoTime() + FrameworkConstants.EXCEL_EXTENSION);
+        resultFile.deleteOnExit();
+        ExcelResultWriter.enqueue(resultFile.getPath(), "Results", 0, 0, "TestCase");
+        ExcelResultWriter.enqueue(resultFile.getPath(), "Results", 0, 1, "Status");
+        ExcelResultWriter.enqueue(resultFile.getPath(), "Results", 1, 0, "ValidLogin");
+        ExcelResultWriter.enqueue(resultFile.getPath(), "Results", 1, 1, "FAIL");
+        ExcelResultWriter.enqueue(resultFile.getPath(), "Results", 1, 1, "PASS");
+        ExcelResultWriter.flush();
+        Assert.assertEquals(ExcelUtils.getTestData(resultFile.getPath(), "Results", "ValidLogin").get("Status"), "PASS", "Last queued value should win");
+        
+        ExcelResultWriter.enqueue(resultFile.getPath(), "Results", 1, 1, "SKIP");
+        ExcelResultWriter.flush();
+        Assert.assertEquals(ExcelUtils.getTestData(resultFile.getPath(), "Results", "ValidLogin").get("Status"), "SKIP", "Existing cells should be updated in place");
+        
+        // Updates of a failed write are kept and written by the next flush
+        File blocked = Files.createTempFile("results-dir", ".tmp").toFile();
+        File retriedFile = new File(blocked, "Retried" + FrameworkConstants.EXCEL_EXTENSION);
+        ExcelResultWriter.enqueue(retriedFile.getPath(), "Results", 0, 0, "TestCase");
+        ExcelResultWriter.enqueue(retriedFile.getPath(), "Results", 1, 0, "ValidLogin");
+        ExcelResultWriter.flush();
+        Assert.assertFalse(retriedFile.exists());
+        Assert.assertTrue(blocked.delete() && blocked.mkdir());
+        ExcelResultWriter.flush();
+        Assert.assertNotNull(ExcelUtils.getTestData(retriedFile.getPath(), "Results", "ValidLogin"), "Failed updates should be retried");
+        
+        logger.info("Excel result writer validation passed successfully");
+    }
+    
+    @Test(priority = 11, description = "Validate CSV test data source", groups = {"framework", "smoke"})
+    public void validateCsvDataSource() throws Exception {
+        logger.info("Test: Validate CSV test data source");
+        
+        File csvFile = File.createTempFile("FrameworkTest", FrameworkConstants.CSV_EXTENSION);
+        csvFile.deleteOnExit();
+        String csv = "\uFEFFtestCase,username,description\r\nValidLogin,testuser,\"Valid, \"\"quoted\"\"\nmultiline\"\r\n\r\nEmptyUsername,,\n";
+        Files.write(csvFile.toPath(), csv.getBytes(StandardCharsets.UTF_8));
+        
+        TestDataTable table = TestDataSources.load(csvFile.getPath(), "");
+        Assert.assertEquals(table.getHeaders(), List.of("testCase", "username", "description"));
+        Assert.assertEquals(table.size(), 2, "Blank lines should be skipped");
+        Assert.assertEquals(table.getValue(0, "description"), "Valid, \"quoted\"\nmultiline");
+        Assert.assertEquals(table.getRow(1), Map.of("testCase", "EmptyUsername", "username", "", "description", ""));
+        Assert.assertEquals(TestDataIndex.lookup(csvFile.getPath(), "", "testCase", "ValidLogin").get("username"), "testuser",
+                "Indexed lookups should work for any registered format");
+        
+        File duplicateFile = File.createTempFile("FrameworkTest", FrameworkConstants.CSV_EXTENSION);
+        duplicateFile.deleteOnExit();
+        Files.write(duplicateFile.toPath(), "testCase,username,username\nValidLogin,testuser,other\n".getBytes(StandardCharsets.UTF_8));
+        try {
+            TestDataSources.load(duplicateFile.getPath(), "");
+            Assert.fail("Duplicate headers should be rejected");
+        } catch (IllegalArgumentException e) {
+            Assert.assertTrue(e.getMessage().contains("Duplicate column 'username'"), e.getMessage());
+        }
+        
+        logger.info("CSV test data source validation passed successfully");
+    }
+    
+    @Test(priority = 12, description = "Validate pairwise case generation", groups = {"framework", "smoke"})
+    public void validatePairwiseGenerator() {
+        logger.info("Test: Validate pairwise case generation");
+        
+        Map<String, List<String>> parameters = new LinkedHashMap<>();
+        for (String name : List.of("browser", "locale", "role", "network")) {
+            parameters.put(name, List.of(name + "1", name + "2", name + "3"));
+        }
+        List<Map<String, String>> cases = PairwiseGenerator.generate(parameters);
+        Assert.assertTrue(cases.size() < 81, "Pairwise set should be smaller than the full product, got " + cases.size());
+        for (String first : parameters.keySet()) {
+            for (String second : parameters.keySet()) {
+                for (String firstValue : parameters.get(first)) {
+                    for (String secondValue : parameters.get(second)) {
+                        if (!first.equals(second)) {
+                            Assert.assertTrue(cases.stream().anyMatch(c -> c.get(first).equals(firstValue) && c.get(second).equals(secondValue)),
+                                    "Pair not covered: " + firstValue + " / " + secondValue);
+                        }
+                    }
+                }
+            }
+        }
+        
+        List<Map<String, String>> loginCases = JsonUtils.getPairwiseLoginTestData();
+        Assert.assertEquals(loginCases.stream().filter(c -> "Success".equals(c.get("expectedResult"))).count(), 1L,
+                "Only the all-valid combination should expect success");
+        
+        logger.info("Pairwise generator validation passed successfully");
+    }
+    
+    @Test(priority = 13, description = "Validate test lifecycle event bus", groups = {"framework", "smoke"})
+    public void validateTestLifecycleBus() {
+        logger.info("Test: Validate test lifecycle event bus");
+        
+        List<TestLifecycleEvent> received = new ArrayList<>();
+        Assert.assertTrue(TestLifecycleBus.subscribe("frameworkTest", (event, result) -> received.add(event)));
+        Assert.assertFalse(TestLifecycleBus.subscribe("frameworkTest", (event, result) -> received.add(event)),
+                "A subscriber name should only be registered once");
+        try {
+            ITestResult result = Reporter.getCurrentTestResult();
+            // Start and outcome arrive from both BaseTest and the listener in a real run
+            TestLifecycleBus.publish(TestLifecycleEvent.TEST_START, result);
+            TestLifecycleBus.publish(TestLifecycleEvent.TEST_START, result);
+            TestLifecycleBus.publish(TestLifecycleEvent.TEST_PASS, result);
+            TestLifecycleBus.publishResult(result);
+            TestLifecycleBus.publish(TestLifecycleEvent.TEST_FAIL, result);
+            
+            Assert.assertEquals(ExtentReportManager.getTest().getModel().getName(), "validateTestLifecycleBus");
+            Assert.assertEquals(ExtentReportManager.getTest().getModel().getLogs().size(), 1, "The outcome should be reported once");
+            TestLifecycleBus.publish(TestLifecycleEvent.TEST_END, result);
+        } finally {
+            TestLifecycleBus.unsubscribe("frameworkTest");
+        }
+        Assert.assertEquals(received, List.of(TestLifecycleEvent.TEST_START, TestLifecycleEvent.TEST_PASS, TestLifecycleEvent.TEST_END));
+        
+        logger.info("Test lifecycle event bus validation passed successfully");
+    }
+    
+    @Test(priority = 14, description = "Validate incremental report store", groups = {"framework", "smoke"})
+    public void validateReportStore() throws Exception {
+        logger.info("Test: Validate incremental report store");
+        
+        if (ConfigReader.isReportIncremental()) {
+            // The suite report already runs through the store; reopening it here would discard it
+            throw new SkipException("Report store is in use by the incremental suite report");
+        }
+        File storeDir = Files.createTempDirectory("report-store").toFile();
+        File html = new File(storeDir, "report.html");
+        ExtentReports extent = new ExtentReports();
+        ReportStore.open(storeDir.getPath());
+        for (int i = 1; i <= 3; i++) {
+            ExtentTest extentTest = extent.createTest("storedTest" + i, "Stored <test> " + i).assignCategory("store");
+            extentTest.info("Step " + i);
+            if (i == 2) {
+                extentTest.fail("Failure " + i);
+                extentTest.info(MarkupHelper.createCodeBlock("findElement [By.id: login]"));
+                ReportStore.flagMarkup(extentTest.getModel().getLogs().get(extentTest.getModel().getLogs().size() - 1));
+                extentTest.info("<b>plain</b>");
+            } else {
+                extentTest.pass("Pass " + i);
+            }
+            ReportStore.append(extentTest.getModel());
+            extent.removeTest(extentTest);
+        }
+        Assert.assertTrue(extent.getReport().getTestList().isEmpty(), "Stored tests should not be kept in memory");
+        
+        ReportStore.render(html.getPath(), "Store Title", "Store Report", Map.of("Environment", "test"));
+        Assert.assertEquals(Files.readAllLines(ReportStore.getStoreFile().toPath()).size(), 3, "One store line per test");
+        String content = new String(Files.readAllBytes(html.toPath()), StandardCharsets.UTF_8);
+        Assert.assertTrue(content.contains("<tr><th>FAIL</th><td>1</td></tr>") && content.contains("<tr><th>PASS</th><td>2</td></tr>"),
+                "Summary should count statuses");
+        Assert.assertTrue(content.contains("storedTest3") && content.contains("Stored &lt;test&gt; 1"), "Tests should be rendered and escaped");
+        Assert.assertTrue(content.contains("<textarea readonly class='code-block'>findElement [By.id: login]</textarea>"),
+                "Markup logs should be rendered as HTML");
+        Assert.assertTrue(content.contains("&lt;b&gt;plain&lt;/b&gt;"), "Text logs should stay escaped");
+        
+        logger.info("Incremental report store validation passed successfully");
+    }
+    
+    @Test(priority = 15, description = "Validate background screenshot writer", groups = {"framework", "smoke"})
+    public void validateScreenshotWriter() throws Exception {
+        logger.info("Test: Validate background screenshot writer");
+        
+        File screenshotDir = Files.createTempDirectory("screenshots").toFile();
+        byte[] png = "not really a png".getBytes(StandardCharsets.UTF_8);
+        // More writes than the queue holds, so some run on the calling thread
+        List<CompletableFuture<String>> writes = new ArrayList<>();
+        for (int i = 0; i < ConfigReader.getScreenshotQueueCapacity() * 2; i++) {
+            writes.add(ScreenshotWriter.write(new File(screenshotDir, "shot" + i + ".png").getPath(), png));
+        }
+        for (CompletableFuture<String> write : writes) {
+            Assert.assertEquals(Files.readAllBytes(new File(write.join()).toPath()), png, "Screenshot bytes should be written unchanged");
+        }
+        
+        ExtentReportManager.createTest("Screenshot Test", "Testing deferred screenshot attachment");
+        ExtentTest extentTest = ExtentReportManager.getTest();
+        ExtentReportManager.addScreenshotOnPass(ScreenshotWriter.write(new File(screenshotDir, "deferred.png").getPath(), png));
+        ExtentReportManager.addScreenshotOnPass(CompletableFuture.failedFuture(new IllegalStateException("writer died")));
+        ExtentReportManager.flushReports();
+        Assert.assertEquals(extentTest.getModel().getMedia().size(), 1, "Pending screenshots should be attached at flush");
+        ExtentReportManager.removeTest();
+        
+        // Failures complete with null instead of propagating to the test
+        File notADirectory = new File(screenshotDir, "not-a-directory");
+        Files.write(notADirectory.toPath(), png);
+        Assert.assertNull(ScreenshotWriter.write(new File(notADirectory, "nested.png").getPath(), png).join(),
+                "A failed write should complete with null");
+        Assert.assertNull(WebDriverUtils.takeScreenshot("noDriver"), "A screenshot without a browser should be null");
+        
+        logger.info("Background screenshot writer validation passed successfully");
+    }
+    
+    @Test(priority = 16, description = "Validate content-addressed screenshot storage", groups = {"framework", "smoke"})
+    public void validateScreenshotStore() throws Exception {
+        logger.info("Test: Validate content-addressed screenshot storage");
+        
+        File screenshotDir = Files.createTempDirectory("screenshot-store").toFile();
+        BufferedImage page = new BufferedImage(200, 100, BufferedImage.TYPE_INT_RGB);
+        for (int x = 0; x < 200; x++) {
+            for (int y = 0; y < 100; y++) {
+                page.setRGB(x, y, x < 100 ? 0xFFFFFF : 0x3366CC);
+            }
+        }
+        String first = ScreenshotStore.store(screenshotDir.toPath(), toPng(page));
+        Assert.assertTrue(new File(first).getName().matches("[0-9a-f]{64}\\.png"), "Screenshots should be named by content hash: " + first);
+        
+        Assert.assertEquals(ScreenshotStore.store(screenshotDir.toPath(), toPng(page)), first, "Identical screenshots should share a file");
+        
+        // One changed pixel gives different bytes but the same perceptual hash
+        page.setRGB(150, 50, 0x3366CD);
+        Assert.assertNotEquals(ScreenshotStore.store(screenshotDir.toPath(), toPng(page), -1), first,
+                "Perceptual deduplication should be opt-in");
+        page.setRGB(150, 51, 0x3366CD);
+        Assert.assertEquals(ScreenshotStore.store(screenshotDir.toPath(), toPng(page), 0), first,
+                "Near-identical screenshots of one run should share a file when enabled");
+        
+        // A later run sees earlier files only through the index on disk
+        page.setRGB(150, 52, 0x3366CD);
+        Assert.assertNotEquals(ScreenshotStore.store(screenshotDir.toPath().resolve("."), toPng(page), 0), first,
+                "Screenshots of earlier runs should only be reused when identical");
+        
+        BufferedImage otherPage = new BufferedImage(200, 100, BufferedImage.TYPE_INT_RGB);
+        for (int x = 0; x < 200; x++) {
+            for (int y = 0; y < 100; y++) {
+                otherPage.setRGB(x, y, x < 100 ? 0x3366CC : 0xFFFFFF);
+            }
+        }
+        Assert.assertNotEquals(ScreenshotStore.store(screenshotDir.toPath(), toPng(otherPage)), first, "Different screenshots should be kept apart");
+        
+        File expired = new File(screenshotDir, "Screenshot_old.png");
+        Files.write(expired.toPath(), new byte[]{1});
+        Assert.assertTrue(expired.setLastModified(System.currentTimeMillis() - 400L * 24 * 60 * 60 * 1000));
+        Assert.assertEquals(ScreenshotStore.applyRetention(screenshotDir.getPath()), 1, "Only expired screenshots should be deleted");
+        Assert.assertTrue(new File(first).exists() && !expired.exists());
+        
+        logger.info("Content-addressed screenshot storage validation passed successfully");
+    }
+    
+    @Test(priority = 17, description = "Validate merging of per-fork event logs", groups = {"framework", "smoke"})
+    public void validateReportBuilder() throws Exception {
+        logger.info("Test: Validate merging of per-fork event logs");
+        
+        File logDir = Files.createTempDirectory("event-logs").toFile();
+        Files.write(new File(logDir, "events-fork1.jsonl").toPath(), List.of(
+                "{\"time\":1000,\"fork\":\"1@host\",\"id\":1,\"event\":\"TEST_START\",\"name\":\"loginA\",\"description\":\"A\",\"category\":\"smoke\"}",
+                "{\"time\":1400,\"fork\":\"1@host\",\"id\":1,\"event\":\"TEST_PASS\"}",
+                "{\"time\":1500,\"fork\":\"1@host\",\"id\":1,\"event\":\"TEST_END\"}"), StandardCharsets.UTF_8);
+        Files.write(new File(logDir, "events-fork2.jsonl").toPath(), List.of(
+                "{\"time\":1100,\"fork\":\"2@host\",\"id\":1,\"event\":\"TEST_START\",\"name\":\"loginB\",\"description\":\"B\"}",
+                "{\"time\":1200,\"fork\":\"2@host\",\"id\":1,\"event\":\"TEST_FAIL\",\"message\":\"boom\"}",
+                "{\"time\":1300,\"fork\":\"2@host\",\"id\":1,\"event\":\"TEST_END\"}",
+                "{\"time\":1600,\"fork\":\"2@host\",\"id\":2,\"event\":\"TEST_SKIP\",\"message\":\"gated\"}"), StandardCharsets.UTF_8);
+        
+        File report = new File(logDir, "merged.html");
+        ReportBuilder.Summary summary = ReportBuilder.build(ReportBuilder.findEventLogs(List.of(logDir.getPath())), report.getPath());
+        Assert.assertEquals(summary.getTotal(), 2, "Events of unknown tests should be ignored");
+        Assert.assertEquals(summary.getPassed(), 1);
+        Assert.assertEquals(summary.getFailed(), 1);
+        Assert.assertEquals(summary.getTestsByFork().keySet(), Set.of("1@host", "2@host"));
+        Assert.assertEquals(summary.getDurationMillis(), 600L);
+        String content = new String(Files.readAllBytes(report.toPath()), StandardCharsets.UTF_8);
+        Assert.assertTrue(content.contains("loginA") && content.contains("loginB"), "Both forks should be in the merged report");
+        
+        logger.info("Event log merge validation passed successfully");
+    }
+    
+    @SuppressWarnings("try")
+    @Test(priority = 18, description = "Validate per-test phase timing", groups = {"framework", "smoke"})
+    public void validatePhaseTimer() throws Exception {
+        logger.info("Test: Validate per-test phase timing");
+        if (!ConfigReader.isPhaseTimingEnabled()) {
+            throw new SkipException("Phase timing is disabled");
+        }
+        
+        PhaseTimer.begin();
+        try (PhaseTimer.Scope action = PhaseTimer.enter(PhaseTimer.Phase.ACTION)) {
+            Thread.sleep(100);
+            try (PhaseTimer.Scope wait = PhaseTimer.enter(PhaseTimer.Phase.WAIT)) {
+                Thread.sleep(60);
+            }
+        }
+        Thread.sleep(50);
+        PhaseTimer.finish(Reporter.getCurrentTestResult(), "phaseTimedTest");
+        Assert.assertNotNull(PhaseTimer.enter(PhaseTimer.Phase.SLEEP), "Scopes outside a timed test should be no-ops");
+        
+        File timingDir = Files.createTempDirectory("phase-timings").toFile();
+        File runFile = PhaseTimer.export(timingDir.getPath());
+        Assert.assertNotNull(runFile, "Recorded test should be exported");
+        JsonNode test = new ObjectMapper().readTree(runFile).path("tests").get(0);
+        Assert.assertEquals(test.path("name").asText(), "phaseTimedTest");
+        JsonNode phases = test.path("phases");
+        Assert.assertTrue(phases.path("WAIT").asLong() >= 60, "Nested wait should be charged to WAIT");
+        Assert.assertTrue(phases.path("ACTION").asLong() >= 100 && phases.path("ACTION").asLong() < 160,
+                "Nested wait should not be charged to ACTION as well: " + phases);
+        Assert.assertTrue(phases.path("OTHER").asLong() >= 50, "Untimed test code should be charged to OTHER");
+        long sum = 0;
+        for (PhaseTimer.Phase phase : PhaseTimer.Phase.values()) {
+            sum += phases.path(phase.name()).asLong();
+        }
+        Assert.assertTrue(Math.abs(test.path("totalMs").asLong() - sum) < PhaseTimer.Phase.values().length,
+                "Phases should add up to the wall time");
+        
+        String trend = new String(Files.readAllBytes(new File(timingDir, FrameworkConstants.PHASE_TREND_FILE).toPath()), StandardCharsets.UTF_8);
+        Assert.assertTrue(trend.contains("phaseTimedTest"), "Trend view should break down the latest run");
+        Assert.assertNull(PhaseTimer.export(timingDir.getPath()), "Exported tests should not be exported again");
+        
+        logger.info("Phase timing validation passed successfully");
+    }
+    
+    @Test(priority = 19, description = "Validate result history store", groups = {"framework", "smoke"})
+    public void validateResultHistoryStore() throws Exception {
+        logger.info("Test: Validate result history store");
+        
+        String historyDir = Files.createTempDirectory("history").toString();
+        ObjectMapper mapper = new ObjectMapper();
+        String runTemplate = "{\"run\":\"r%d\",\"tests\":[{\"name\":\"slowTest\",\"status\":\"PASS\",\"totalMs\":%d},"
+                + "{\"name\":\"fastTest\",\"status\":\"PASS\",\"totalMs\":%d}]}";
+        for (int run = 1; run <= 3; run++) {
+            Assert.assertEquals(ResultHistoryStore.appendRun(historyDir, mapper.readTree(String.format(runTemplate, run, 1000, 200))), run);
+        }
+        
+        // A torn index record from an interrupted write is overwritten by the next run
+        Files.write(new File(historyDir, FrameworkConstants.HISTORY_INDEX_FILE).toPath(), new byte[]{1, 2, 3},
+                StandardOpenOption.APPEND);
+        Assert.assertEquals(ResultHistoryStore.appendRun(historyDir, mapper.readTree(String.format(runTemplate, 4, 2000, 260))), 4);
+        
+        ResultHistoryStore.Stats stats = ResultHistoryStore.getStats(historyDir, "slowTest", 10);
+        Assert.assertEquals(stats.getSamples(), 4);
+        Assert.assertEquals(stats.getP50(), 1000L);
+        Assert.assertEquals(stats.getP95(), 2000L);
+        Assert.assertEquals(stats.getLatest(), 2000L);
+        Assert.assertEquals(ResultHistoryStore.getStats(historyDir, "slowTest", 1).getSamples(), 1, "Query should be limited to the last runs");
+        
+        List<ResultHistoryStore.Stats> trends = ResultHistoryStore.getTrends(historyDir, 10);
+        Assert.assertEquals(trends.size(), 2);
+        Assert.assertEquals(trends.get(0).getTestName(), "slowTest", "Trends should be ordered by p95");
+        
+        List<ResultHistoryStore.Regression> regressions = ResultHistoryStore.findRegressions(historyDir, 10, 50, 100);
+        Assert.assertEquals(regressions.size(), 1, "Only the doubled duration should be flagged: " + regressions);
+        Assert.assertEquals(regressions.get(0).getTestName(), "slowTest");
+        Assert.assertEquals(regressions.get(0).getBaselineMs(), 1000L);
+        
+        logger.info("Result history store validation passed successfully");
+    }
+    
+    @Test(priority = 20, description = "Validate flight recorder ring buffer", groups = {"framework", "smoke"})
+    public void validateFlightRecorder() {
+        logger.info("Test: Validate flight recorder ring buffer");
+        
+        WebDriver stub = (WebDriver) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{WebDriver.class},
+                (proxy, method, args) -> {
+                    if ("findElement".equals(method.getName())) {
+                        throw new NoSuchElementException("no such element: " + args[0]);
+                    }
+                    return "getTitle".equals(method.getName()) ? "Stub" : null;
+                });
+        WebDriver driver = FlightRecorder.decorate(stub);
+        
+        // The suite hook lowers the action loggers to WARN and restores them at suite end
+        Level before = LogManager.getLogger(WebDriverUtils.class).getLevel();
+        FlightRecorderSubscriber.lowerActionLogging();
+        try {
+            Assert.assertTrue(LogManager.getLogger(WebDriverUtils.class).isWarnEnabled());
+            Assert.assertFalse(LogManager.getLogger(WebDriverUtils.class).isInfoEnabled(), "Action logging should defer to the flight recorder");
+        } finally {
+            FlightRecorderSubscriber.restoreActionLogging();
+        }
+        Assert.assertEquals(LogManager.getLogger(WebDriverUtils.class).getLevel(), before, "Action logger level should be restored");
+        
+        FlightRecorder.clear();
+        int size = ConfigReader.getFlightRecorderSize();
+        for (int i = 0; i < size + 5; i++) {
+            Assert.assertEquals(driver.getTitle(), "Stub");
+        }
+        Assert.expectThrows(NoSuchElementException.class, () -> driver.findElement(By.id("missing")));
+        
+        List<String> commands = FlightRecorder.getCommands();
+        Assert.assertEquals(commands.size(), size, "Ring buffer should keep only the last commands");
+        String last = commands.get(commands.size() - 1);
+        Assert.assertTrue(last.contains("FAILED findElement") && last.contains("By.id: missing"),
+                "Failed command should be recorded with its locator: " + last);
+        Assert.assertTrue(FlightRecorder.getConsoleEntries(driver).isEmpty(), "Drivers without console logs should yield no entries");
+        
+        FlightRecorder.clear();
+        Assert.assertTrue(FlightRecorder.getCommands().isEmpty(), "Buffer should be empty for the next test");
+        
+        logger.info("Flight recorder validation passed successfully");
+    }
+    
+    @Test(priority = 21, description = "Validate session state isolation between start URLs", groups = {"framework", "smoke"})
+    public void validateNavigationIsolation() {
+        logger.info("Test: Validate session state isolation between start URLs");
+        
+        StubBrowser browser = new StubBrowser();
+        DriverManager.setDriver(browser.driver());
+        NavigationManager.reset();
+        try {
+            NavigationManager.navigateTo("http://app/login");
+            Assert.assertEquals(browser.cookieClears, 1);
+            Assert.assertFalse(NavigationManager.isDirty(), "Start page should be clean after navigation");
+            
+            // A clean session on another URL may still carry cookies injected without marking it dirty
+            NavigationManager.navigateTo("http://app/home");
+            Assert.assertEquals(browser.cookieClears, 2, "Cross-URL navigation should always clear session state");
+            
+            NavigationManager.navigateTo("http://app/home");
+            Assert.assertEquals(browser.loads, 2, "Clean session on the start URL should not be reloaded");
+            
+            WebDriverUtils.navigateToUrl("http://app/other");
+            Assert.assertTrue(NavigationManager.isDirty(), "Navigation by a test should mark the page dirty");
+        } finally {
+            DriverManager.quitDriver();
+        }
+        
+        logger.info("Navigation isolation validation passed successfully");
+    }
+    
+    @Test(priority = 22, description = "Validate navigation circuit breaker and pre-flight timeout", groups = {"framework", "smoke"})
+    public void validateNavigationCircuitBreaker() throws Exception {
+        logger.info("Test: Validate navigation circuit breaker and pre-flight timeout");
+        
+        int threshold = ConfigReader.getCircuitBreakerThreshold();
+        RuntimeException failure = new RuntimeException("page load timeout");
+        NavigationCircuitBreaker.reset();
+        try {
+            // A success in between resets the consecutive failure count
+            for (int i = 1; i < threshold; i++) {
+                NavigationCircuitBreaker.recordFailure("http://app/login", failure);
+            }
+            NavigationCircuitBreaker.recordSuccess();
+            for (int i = 1; i < threshold; i++) {
+                NavigationCircuitBreaker.recordFailure("http://app/login", failure);
+            }
+            Assert.assertFalse(NavigationCircuitBreaker.isOpen(), "Circuit should stay closed below the threshold");
+            NavigationCircuitBreaker.ensureClosed();
+            
+            NavigationCircuitBreaker.recordFailure("http://app/login", failure);
+            Assert.assertTrue(NavigationCircuitBreaker.isOpen(), "Circuit should open at the threshold");
+            try {
+                NavigationCircuitBreaker.ensureClosed();
+                Assert.fail("An open circuit should skip the test");
+            } catch (SkipException e) {
+                Assert.assertSame(e.getCause(), failure, "Skip should carry the failure that opened the circuit");
+                Assert.assertTrue(e.getMessage().contains(threshold + " consecutive navigation failures"), e.getMessage());
+            }
+            
+            // Navigation is refused without touching the browser while open
+            StubBrowser browser = new StubBrowser();
+            DriverManager.setDriver(browser.driver());
+            try {
+                Assert.assertThrows(SkipException.class, () -> WebDriverUtils.navigateToUrl("http://app/home"));
+                Assert.assertEquals(browser.loads, 0);
+            } finally {
+                DriverManager.quitDriver();
+            }
+            
+            NavigationCircuitBreaker.reset();
+            Assert.assertFalse(NavigationCircuitBreaker.isOpen(), "Reset should close the circuit");
+            NavigationCircuitBreaker.ensureClosed();
+            
+            // A server that accepts connections but never answers times out the probe
+            try (ServerSocket silent = new ServerSocket(0)) {
+                String url = "http://127.0.0.1:" + silent.getLocalPort() + "/";
+                List<String> failures = EnvironmentProbe.probe(url, List.of("app.js"), Duration.ofMillis(500));
+                Assert.assertEquals(failures.size(), 2, "Application URL and asset should both fail: " + failures);
+                Assert.assertTrue(failures.get(0).startsWith(url + " unreachable"), failures.get(0));
+                Assert.assertTrue(failures.get(1).startsWith(url + "app.js unreachable"), failures.get(1));
+            }
+            
+            NavigationCircuitBreaker.trip("Pre-flight check failed");
+            Assert.assertThrows(SkipException.class, NavigationCircuitBreaker::ensureClosed);
+        } finally {
+            NavigationCircuitBreaker.reset();
+        }
+        
+        logger.info("Navigation circuit breaker validation passed successfully");
+    }
+    
+    @Test(priority = 23, description = "Validate compiled test data keys and staleness", groups = {"framework", "smoke"})
+    public void validateCompiledTestData() throws Exception {
+        logger.info("Test: Validate compiled test data keys and staleness");
+        
+        if (!ConfigReader.isCompiledTestDataEnabled()) {
+            throw new SkipException("Compiled test data is disabled");
+        }
+        String template = "{\"rows\": [{\"testCase\": \"%s\"}]}";
+        File first = new File(Files.createTempDirectory("compiled-a").toFile(), "Data.json");
+        File second = new File(Files.createTempDirectory("compiled-b").toFile(), "Data.json");
+        Files.write(first.toPath(), String.format(template, "first").getBytes(StandardCharsets.UTF_8));
+        Files.write(second.toPath(), String.format(template, "other").getBytes(StandardCharsets.UTF_8));
+        
+        // Same-named sources in different directories are compiled separately
+        Assert.assertEquals(JsonUtils.getTestDataTable(first.getPath(), "rows").getValue(0, "testCase"), "first");
+        Assert.assertEquals(JsonUtils.getTestDataTable(second.getPath(), "rows").getValue(0, "testCase"), "other");
+        Assert.assertEquals(JsonUtils.getTestDataTable(first.getPath(), "rows").getValue(0, "testCase"), "first",
+                "Compiled file of a same-named source should not be reused");
+        
+        // A touched source keeps its data; a changed one of the same size is recompiled
+        Assert.assertTrue(first.setLastModified(first.lastModified() - 60000));
+        Assert.assertEquals(JsonUtils.getTestDataTable(first.getPath(), "rows").getValue(0, "testCase"), "first");
+        Files.write(first.toPath(), String.format(template, "third").getBytes(StandardCharsets.UTF_8));
+        Assert.assertTrue(first.setLastModified(first.lastModified() + 60000));
+        Assert.assertEquals(JsonUtils.getTestDataTable(first.getPath(), "rows").getValue(0, "testCase"), "third",
+                "Changed source should be recompiled");
+        
+        logger.info("Compiled test data validation passed successfully");
+    }
+    
+    @Test(priority = 24, description = "Validate authenticated state capture, reuse, verification and expiry", groups = {"framework", "smoke"})
+    public void validateAuthStateCache() throws Exception {
+        logger.info("Test: Validate authenticated state capture, reuse, verification and expiry");
+        
+        if (!ConfigReader.isAuthStateEnabled()) {
+            throw new SkipException("Authenticated state cache is disabled");
+        }
+        String account = "framework-auth";
+        String expired = "framework-auth-expired";
+        String stale = "framework-auth-stale";
+        Date nextDay = new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(1));
+        int[] uiLogins = new int[1];
+        boolean[] serverAccepts = {true};
+        
+        StubBrowser browser = new StubBrowser();
+        DriverManager.setDriver(browser.driver());
+        try {
+            for (String key : List.of(account, expired, stale)) {
+                AuthStateCache.invalidate(key);
+            }
+            Runnable uiLogin = () -> {
+                uiLogins[0]++;
+                browser.cookies.add(new Cookie("session", "token-" + uiLogins[0], "/", nextDay));
+            };
+            BooleanSupplier signedIn = () -> serverAccepts[0] && browser.cookies.stream().anyMatch(c -> "session".equals(c.getName()));
+            
+            // First sign-in performs the UI login and persists the captured state
+            AuthStateCache.authenticate(account, "http://app/home", uiLogin, signedIn);
+            Assert.assertEquals(uiLogins[0], 1);
+            File stateFile = AuthStateCache.getStateFile(account);
+            Assert.assertTrue(stateFile.getName().contains(URI.create(ConfigReader.getApplicationUrl()).getHost()),
+                    "State file should be keyed by the application origin: " + stateFile.getName());
+            StorageState saved = new ObjectMapper().readValue(stateFile, StorageState.class);
+            Assert.assertEquals(saved.getAccount(), account);
+            Assert.assertEquals(saved.getOrigin(), "http://app");
+            Assert.assertEquals(saved.getCookies().size(), 1);
+            Assert.assertEquals(saved.getCookies().get(0).get("value"), "token-1");
+            Assert.assertEquals(((Number) saved.getCookies().get(0).get("expiry")).longValue(), nextDay.getTime() / 1000L);
+            
+            // A fresh session gets the state injected instead of another UI login
+            browser.cookies.clear();
+            AuthStateCache.authenticate(account, "http://app/home", uiLogin, signedIn);
+            Assert.assertEquals(uiLogins[0], 1, "Valid state should be reused");
+            Assert.assertEquals(browser.cookies.size(), 1);
+            Cookie restored = browser.cookies.iterator().next();
+            Assert.assertEquals(restored.getValue(), "token-1");
+            Assert.assertEquals(restored.getExpiry().getTime() / 1000L, nextDay.getTime() / 1000L);
+            Assert.assertEquals(WebDriverUtils.getCurrentUrl(), "http://app/home");
+            
+            // A restored session the application no longer accepts is dropped and logged in again
+            browser.cookies.clear();
+            serverAccepts[0] = false;
+            AuthStateCache.authenticate(account, "http://app/home", uiLogin, () -> {
+                boolean accepted = signedIn.getAsBoolean();
+                serverAccepts[0] = true;
+                return accepted;
+            });
+            Assert.assertEquals(uiLogins[0], 2, "State that is not signed in should fall back to the UI login");
+            Assert.assertEquals(new ObjectMapper().readValue(stateFile, StorageState.class).getCookies().get(0).get("value"), "token-2",
+                    "Fallback login should replace the rejected state");
+            
+            // An expired cookie or a state past its TTL forces a new UI login
+            saved.setAccount(expired);
+            saved.getCookies().get(0).put("expiry", System.currentTimeMillis() / 1000L - 60);
+            new ObjectMapper().writeValue(AuthStateCache.getStateFile(expired), saved);
+            AuthStateCache.authenticate(expired, "http://app/home", uiLogin, signedIn);
+            Assert.assertEquals(uiLogins[0], 3, "State with an expired cookie should not be reused");
+            
+            saved.setAccount(stale);
+            saved.setCookies(new ArrayList<>());
+            saved.setCapturedAt(System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(ConfigReader.getAuthStateTtlMinutes() + 1));
+            new ObjectMapper().writeValue(AuthStateCache.getStateFile(stale), saved);
+            AuthStateCache.authenticate(stale, "http://app/home", uiLogin, signedIn);
+            Assert.assertEquals(uiLogins[0], 4, "State past its TTL should not be reused");
+        } finally {
+            for (String key : List.of(account, expired, stale)) {
+                AuthStateCache.invalidate(key);
+            }
+            DriverManager.quitDriver();
+        }
+        
+        logger.info("Authenticated state cache validation passed successfully");
+    }
+    
+    @Test(priority = 25, description = "Validate isolation checkpoint between batched scenarios", groups = {"framework", "smoke"})
+    public void validateSessionBatchCheckpoint() throws Exception {
+        logger.info("Test: Validate isolation checkpoint between batched scenarios");
+        
+        StubBrowser browser = new StubBrowser();
+        DriverManager.setDriver(browser.driver());
+        NavigationManager.reset();
+        try {
+            // A scenario that stayed on the start URL gets its fields, cookies and storage reset, then a reload
+            WebDriverUtils.navigateToUrl("http://app/login");
+            browser.cookies.add(new Cookie("session", "scenario-1"));
+            NavigationManager.checkpoint("http://app/login");
+            Assert.assertEquals(browser.loads, 1, "Checkpoint on the start URL should not open it again");
+            Assert.assertEquals(browser.refreshes, 1);
+            Assert.assertEquals(browser.cookieClears, 1);
+            Assert.assertTrue(browser.cookies.isEmpty(), "Cookies of the previous scenario should be cleared");
+            Assert.assertTrue(browser.scripts.stream().anyMatch(script -> script.contains("f.reset()")), "Form fields should be reset");
+            Assert.assertTrue(browser.scripts.stream().anyMatch(script -> script.contains("localStorage.clear()")), "Web storage should be cleared");
+            Assert.assertFalse(NavigationManager.isDirty(), "Start page should be clean after the checkpoint");
+            
+            // A scenario that navigated away is brought back to the start URL
+            WebDriverUtils.navigateToUrl("http://app/home");
+            NavigationManager.checkpoint("http://app/login");
+            Assert.assertEquals(browser.loads, 3);
+            Assert.assertEquals(browser.refreshes, 1);
+            Assert.assertEquals(browser.cookieClears, 2);
+            Assert.assertEquals(WebDriverUtils.getCurrentUrl(), "http://app/login");
+            
+            // Scenarios become one-parameter data provider rows, labelled by name, in declaration order
+            int[] runs = new int[1];
+            Object[][] rows = ScenarioBatch.named("Checkpoint").add("First", () -> { }).add("Second", () -> runs[0]++).toDataProvider();
+            Assert.assertEquals(rows.length, 2);
+            Assert.assertEquals(rows[1].length, 1);
+            Assert.assertEquals(rows[1][0].toString(), "Second");
+            ((ScenarioBatch.Scenario) rows[1][0]).run();
+            Assert.assertEquals(runs[0], 1);
+            Assert.assertThrows(IllegalArgumentException.class, () -> ScenarioBatch.named("Checkpoint").add("First", () -> { }).add("First", () -> { }));
+        } finally {
+            DriverManager.quitDriver();
+        }
+        
+        logger.info("Session batch checkpoint validation passed successfully");
+    }
+    
+    @Test(priority = 26, description = "Validate fail-fast gating of dependent groups", groups = {"framework", "smoke"})
+    public void validateGatingListener() {
+        logger.info("Test: Validate fail-fast gating of dependent groups");
+        
+        GatingListener listener = new GatingListener(Map.of("smoke", List.of("regression", "functional")));
+        ITestResult regressionTest = stubResult("verifyLoginForm", "regression", null);
+        IInvokedMethod regressionInvocation = stubInvocation(regressionTest, true);
+        IInvokedMethod regressionSetup = stubInvocation(stubResult("beforeMethod", "regression", null), false);
+        ITestResult negativeTest = stubResult("verifyInvalidLoginWithWrongUsername", "negative", null);
+        
+        // A smoke-tagged test failing in the regression block is not the gate
+        listener.onTestFailure(stubResult("verifyValidLogin", "regression", new AssertionError("wrong password")));
+        listener.beforeInvocation(regressionInvocation, regressionTest);
+        
+        // A failed gate skips dependent tests and their setup with the gate failure as cause
+        listener.onConfigurationFailure(stubResult("verifyLoginPageLoaded", "smoke", new AssertionError("Login page is not loaded")));
+        SkipException skip = Assert.expectThrows(SkipException.class, () -> listener.beforeInvocation(regressionInvocation, regressionTest));
+        Assert.assertTrue(skip.getMessage().contains("gate group 'smoke' failed in verifyLoginPageLoaded: Login page is not loaded"), skip.getMessage());
+        Assert.assertThrows(SkipException.class, () -> listener.beforeInvocation(regressionSetup, regressionTest));
+        ITestResult functionalTest = stubResult("verifyLoginForm", "functional", null);
+        Assert.assertThrows(SkipException.class, () -> listener.beforeInvocation(stubInvocation(functionalTest, true), functionalTest));
+        
+        // Groups outside the gate's dependents and the gate group itself keep running
+        listener.beforeInvocation(stubInvocation(negativeTest, true), negativeTest);
+        ITestResult smokeTest = stubResult("verifyValidLogin", "smoke", null);
+        listener.beforeInvocation(stubInvocation(smokeTest, true), smokeTest);
+        
+        logger.info("Gating listener validation passed successfully");
+    }
+    
+    /**
+     * Stub a result of a method running in a &lt;test&gt; block that includes one group
+     */
+    private ITestResult stubResult(String methodName, String includedGroup, Throwable throwable) {
+        XmlTest xmlTest = new XmlTest(new XmlSuite());
+        xmlTest.addIncludedGroup(includedGroup);
+        ITestContext context = stub(ITestContext.class, Map.of("getCurrentXmlTest", xmlTest));
+        ITestNGMethod method = stub(ITestNGMethod.class, Map.of("getMethodName", methodName, "getGroups", new String[]{"smoke", includedGroup}));
+        Map<String, Object> answers = new HashMap<>(Map.of("getTestContext", context, "getMethod", method));
+        if (Objects.nonNull(throwable)) {
+            answers.put("getThrowable", throwable);
+        }
+        return stub(ITestResult.class, answers);
+    }
+    
+    /**
+     * Stub the invocation of a test method, or of a @BeforeMethod otherwise
+     */
+    private IInvokedMethod stubInvocation(ITestResult result, boolean testMethod) {
+        ITestNGMethod method = stub(ITestNGMethod.class, Map.of("getMethodName", result.getMethod().getMethodName(),
+                "isBeforeMethodConfiguration", !testMethod));
+        return stub(IInvokedMethod.class, Map.of("isTestMethod", testMethod, "getTestMethod", method));
+    }
+    
+    /**
+     * Stub an interface answering the given methods by name, false or null otherwise
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, Map<String, Object> answers) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) ->
+                answers.containsKey(method.getName()) ? answers.get(method.getName())
+                        : method.getReturnType() == boolean.class ? Boolean.FALSE : null);
+    }
+    
+    /**
+     * Browser-less WebDriver recording page loads, refreshes, cookies and scripts
+     */
+    private static final class StubBrowser implements InvocationHandler {
+        private final List<String> scripts = new ArrayList<>();
+        private final Set<Cookie> cookies = new LinkedHashSet<>();
+        private String url = "about:blank";
+        private int loads;
+        private int refreshes;
+        private int cookieClears;
+        
+        private WebDriver driver() {
+            return (WebDriver) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[]{WebDriver.class, JavascriptExecutor.class}, this);
+        }
+        
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            switch (method.getName()) {
+                case "get":
+                    url = (String) args[0];
+                    loads++;
+                    return null;
+                case "getCurrentUrl":
+                    return url;
+                case "manage":
+                case "navigate":
+                    return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{method.getReturnType()}, this);
+                case "refresh":
+                    refreshes++;
+                    return null;
+                case "deleteAllCookies":
+                    cookies.clear();
+                    cookieClears++;
+                    return null;
+                case "addCookie":
+                    cookies.add((Cookie) args[0]);
+                    return null;
+                case "getCookies":
+                    return new LinkedHashSet<>(cookies);
+                case "executeScript":
+                    scripts.add((String) args[0]);
+                    return null;
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                case "toString":
+                    return "StubBrowser(" + url + ")";
+                default:
+                    return null;
+            }
+        }
+    }
+    
+    private byte[] toPng(BufferedImage image) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", bytes);
+        return bytes.toByteArray();
+    }
+    
     @AfterMethod
     public void afterMethod() {
         logger.info("Framework component test completed");